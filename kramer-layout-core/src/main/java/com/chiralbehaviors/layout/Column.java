@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.chiralbehaviors.layout.style.RelationInsets;
+
+/**
+ *
+ * @author halhildebrand
+ *
+ */
+public class Column {
+
+    private ArrayDeque<SchemaNodeLayout> fields = new ArrayDeque<>();
+    private double                       width;
+
+    public Column() {
+    }
+
+    public Column(double width) {
+        this.width = width;
+    }
+
+    public void add(SchemaNodeLayout node) {
+        fields.add(node);
+    }
+
+    public List<SchemaNodeLayout> getFields() {
+        return new ArrayList<>(fields);
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double maxWidth(double labelWidth) {
+        return fields.stream()
+                     .mapToDouble(field -> labelWidth + field.layoutWidth())
+                     .max()
+                     .orElse(0d);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Column %s", fields.stream()
+                                                .map(p -> p.getField())
+                                                .collect(Collectors.toList()));
+    }
+
+    void adjustHeight(double distributed) {
+        double delta = distributed / fields.size();
+        if (delta >= 1.0) {
+            fields.forEach(f -> f.adjustHeight(delta));
+        }
+    }
+
+    void distributeHeight(double finalHeight, RelationInsets style) {
+        double calculated = fields.stream()
+                                  .mapToDouble(f -> LayoutModel.snap(f.getHeight()
+                                                                     + style.getElementVerticalInset()))
+                                  .sum();
+        if (calculated < finalHeight) {
+            double delta = LayoutModel.relax((finalHeight - calculated)
+                                             / (double) fields.size());
+            if (delta >= 1.0) {
+                fields.forEach(f -> f.adjustHeight(delta));
+            }
+        }
+    }
+}
\ No newline at end of file
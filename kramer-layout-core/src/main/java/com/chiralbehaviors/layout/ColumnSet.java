@@ -21,10 +21,8 @@ import static java.lang.Math.min;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 
-import com.chiralbehaviors.layout.style.Style;
-import com.chiralbehaviors.layout.style.RelationStyle;
+import com.chiralbehaviors.layout.style.RelationInsets;
 
 /**
  *
@@ -35,10 +33,14 @@ public class ColumnSet {
 
     private final List<Column> columns = new ArrayList<>();
 
-    {
+    public ColumnSet() {
         columns.add(new Column());
     }
 
+    ColumnSet(List<Column> columns) {
+        this.columns.addAll(columns);
+    }
+
     public void add(SchemaNodeLayout node) {
         columns.get(0)
                .add(node);
@@ -49,10 +51,10 @@ public class ColumnSet {
     }
 
     public double compress(int cardinality, double justified,
-                           RelationStyle style, double labelWidth) {
+                           RelationInsets style, double labelWidth) {
         Column firstColumn = columns.get(0);
-        int count = min(firstColumn.getFields()
-                                   .size(),
+        List<SchemaNodeLayout> fields = firstColumn.getFields();
+        int count = min(fields.size(),
                         max(1,
                             (int) Math.floor(justified
                                              / (firstColumn.maxWidth(labelWidth)
@@ -61,37 +63,35 @@ public class ColumnSet {
 
         // compression
         double columnWidth = Math.floor(justified / (double) count);
-        double fieldWidth = Style.snap(columnWidth - labelWidth
-                                       - style.getElementHorizontalInset()
-                                       - style.getColumnHorizontalInset());
-        firstColumn.setWidth(columnWidth);
-        firstColumn.getFields()
-                   .forEach(f -> {
-                       f.compress(fieldWidth);
-                   });
-        IntStream.range(1, count)
-                 .forEach(i -> columns.add(new Column(columnWidth)));
-        double baseHeight = firstColumn.cellHeight(cardinality, style,
-                                                   fieldWidth);
-        double lastHeight;
-        do {
-            lastHeight = baseHeight;
-            for (int i = 0; i < columns.size() - 1; i++) {
-                while (columns.get(i)
-                              .slideRight(cardinality, columns.get(i + 1),
-                                          style, fieldWidth)) {
-                }
+        double fieldWidth = LayoutModel.snap(columnWidth - labelWidth
+                                             - style.getElementHorizontalInset()
+                                             - style.getColumnHorizontalInset());
+        double[] heights = new double[fields.size()];
+        for (int i = 0; i < heights.length; i++) {
+            SchemaNodeLayout field = fields.get(i);
+            field.compress(fieldWidth);
+            heights[i] = LayoutModel.snap(field.cellHeight(cardinality, fieldWidth)
+                                          + style.getElementVerticalInset());
+        }
+
+        // balance the fields over the columns
+        columns.clear();
+        double baseHeight = 0.0;
+        int start = 0;
+        for (int end : Partition.balance(heights, count)) {
+            Column column = new Column(columnWidth);
+            double height = 0.0;
+            for (int i = start; i < end; i++) {
+                column.add(fields.get(i));
+                height += heights[i];
             }
-            baseHeight = columns.stream()
-                                .mapToDouble(c -> c.cellHeight(cardinality,
-                                                               style,
-                                                               fieldWidth))
-                                .max()
-                                .orElse(0d);
-        } while (lastHeight > baseHeight);
-        double finalHeight = Style.snap(baseHeight);
+            baseHeight = max(baseHeight, height);
+            columns.add(column);
+            start = end;
+        }
+        double finalHeight = LayoutModel.snap(baseHeight);
         columns.forEach(c -> c.distributeHeight(finalHeight, style));
-        return Style.snap(finalHeight + style.getColumnVerticalInset());
+        return LayoutModel.snap(finalHeight + style.getColumnVerticalInset());
     }
 
     public List<Column> getColumns() {
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout;
+
+/**
+ * The left and right indentation of a column of a nested table
+ *
+ * @author halhildebrand
+ *
+ */
+public final class Indentation {
+    public static final Indentation NONE = new Indentation(0, 0);
+
+    private final double            left;
+    private final double            right;
+
+    public Indentation(double left, double right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    public double getLeft() {
+        return left;
+    }
+
+    public double getRight() {
+        return right;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Indentation [%s, %s]", left, right);
+    }
+}
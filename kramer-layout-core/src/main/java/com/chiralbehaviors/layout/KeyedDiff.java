@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The update of a list of rows to successive rows, matching the rows by their
+ * keys, so that the rows that are unchanged are left in place, and only the
+ * rows that are inserted, removed, moved or changed are modified. The rows
+ * left in place are the longest run of matched rows whose order is unchanged,
+ * so a move modifies only the rows moved, and the rows are matched through a
+ * map of the keys rather than searched for.
+ *
+ * @author halhildebrand
+ *
+ */
+public final class KeyedDiff {
+
+    /**
+     * Update the items to the rows, matching items to rows by the key. Items
+     * and rows with a null key are never matched, and are removed and
+     * inserted respectively. Contiguous items are removed, and contiguous rows
+     * are inserted, with one edit of the items. Answer the number of items
+     * removed, inserted or replaced.
+     */
+    public static <T> int apply(List<T> items, List<? extends T> rows,
+                                Function<? super T, ?> key) {
+        Map<Object, Integer> indices = new HashMap<>(rows.size() * 2);
+        for (int i = 0; i < rows.size(); i++) {
+            Object k = key.apply(rows.get(i));
+            if (k != null) {
+                indices.putIfAbsent(k, i);
+            }
+        }
+        int[] targets = new int[items.size()];
+        for (int j = 0; j < targets.length; j++) {
+            Object k = key.apply(items.get(j));
+            Integer target = k == null ? null : indices.remove(k);
+            targets[j] = target == null ? -1 : target;
+        }
+        boolean[] kept = longestIncreasing(targets);
+        boolean[] stable = new boolean[rows.size()];
+        for (int j = 0; j < targets.length; j++) {
+            if (kept[j]) {
+                stable[targets[j]] = true;
+            }
+        }
+
+        int modifications = 0;
+        int j = targets.length;
+        while (j > 0) {
+            if (kept[j - 1]) {
+                j--;
+                continue;
+            }
+            int end = j;
+            while (j > 0 && !kept[j - 1]) {
+                j--;
+            }
+            items.subList(j, end)
+                 .clear();
+            modifications += end - j;
+        }
+
+        int i = 0;
+        while (i < rows.size()) {
+            if (stable[i]) {
+                T row = rows.get(i);
+                if (!Objects.equals(items.get(i), row)) {
+                    items.set(i, row);
+                    modifications++;
+                }
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < rows.size() && !stable[i]) {
+                i++;
+            }
+            items.addAll(start, rows.subList(start, i));
+            modifications += i - start;
+        }
+        return modifications;
+    }
+
+    /**
+     * Answer the items of the longest strictly increasing subsequence of the
+     * targets that are not negative
+     */
+    private static boolean[] longestIncreasing(int[] targets) {
+        int[] tails = new int[targets.length];
+        int[] previous = new int[targets.length];
+        int length = 0;
+        for (int j = 0; j < targets.length; j++) {
+            if (targets[j] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (targets[tails[mid]] < targets[j]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[j] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = j;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] longest = new boolean[targets.length];
+        for (int j = length > 0 ? tails[length - 1] : -1; j >= 0; j = previous[j]) {
+            longest[j] = true;
+        }
+        return longest;
+    }
+
+    private KeyedDiff() {
+    }
+}
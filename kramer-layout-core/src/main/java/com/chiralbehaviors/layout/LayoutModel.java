@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.schema.Relation;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+
+/**
+ * The model the layouts of a schema are created from, measured and planned
+ * by: the metrics and insets of the layouts of each node, and the policies of
+ * their measurement
+ *
+ * @author halhildebrand
+ *
+ */
+public interface LayoutModel {
+
+    /**
+     * Answer the value relaxed to the whole pixel below it
+     */
+    static double relax(double value) {
+        return Math.max(0, Math.floor(value));
+    }
+
+    /**
+     * Answer the value snapped to the whole pixel above it
+     */
+    static double snap(double value) {
+        return Math.ceil(value);
+    }
+
+    /**
+     * Answer the pool used to measure sibling subtrees in parallel, or null if
+     * measurement is sequential
+     */
+    ForkJoinPool getMeasurePool();
+
+    /**
+     * Answer the policy for sampled measurement of large data, or null if all
+     * data is measured
+     */
+    SamplingPolicy getSamplingPolicy();
+
+    PrimitiveLayout layout(Primitive p);
+
+    RelationLayout layout(Relation r);
+
+    default SchemaNodeLayout layout(SchemaNode n) {
+        return n instanceof Primitive ? layout((Primitive) n)
+                                      : layout((Relation) n);
+    }
+
+    /**
+     * Resolve the metrics of every node of the schema on the calling thread,
+     * then evaluate the action, so that layouts of the schema may be created
+     * from any thread
+     */
+    default <T> T withResolvedStyles(SchemaNode schema, Supplier<T> action) {
+        return action.get();
+    }
+}
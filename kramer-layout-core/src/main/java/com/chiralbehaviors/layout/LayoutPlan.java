@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of the layout, compress and justify passes of a layout tree for a
+ * width: the widths and heights of each layout, the table or outline decision
+ * of each relation, and the partition of each outline into column sets and
+ * columns. A plan is immutable and independent of the layouts it was planned
+ * from, so it may be planned on any thread from a
+ * {@link SchemaNodeLayout#copy(LayoutModel) copy} of the measured layout, and
+ * then applied to the measured layout on the FX thread to build its controls.
+ * A plan is only valid for the measurement it was computed from.
+ * <p>
+ * Plans with the same structure build controls of the same shape, so the
+ * control built for one may be re-justified to the other rather than rebuilt.
+ *
+ * @author halhildebrand
+ *
+ */
+public class LayoutPlan {
+
+    /**
+     * The planned column of an outline
+     */
+    public static class ColumnPlan {
+        private final int    fields;
+        private final double width;
+
+        ColumnPlan(Column column) {
+            this.fields = column.getFields()
+                                .size();
+            this.width = column.getWidth();
+        }
+
+        /**
+         * Answer the number of consecutive children of the relation in the
+         * column
+         */
+        public int getFields() {
+            return fields;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ColumnPlan [%s @ %s]", fields, width);
+        }
+    }
+
+    /**
+     * The planned state of a layout
+     */
+    public static class NodePlan {
+        private final double         cellHeight;
+        private final List<NodePlan> children;
+        private final double         columnHeaderIndentation;
+        private final double         columnWidth;
+        private final String         field;
+        private final double         height;
+        private final double         justifiedWidth;
+
+        NodePlan(SchemaNodeLayout layout, double cellHeight,
+                 List<NodePlan> children) {
+            this.cellHeight = cellHeight;
+            this.children = Collections.unmodifiableList(children);
+            this.columnHeaderIndentation = layout.columnHeaderIndentation;
+            this.columnWidth = layout.columnWidth;
+            this.field = layout.getField();
+            this.height = layout.height;
+            this.justifiedWidth = layout.justifiedWidth;
+        }
+
+        public double getCellHeight() {
+            return cellHeight;
+        }
+
+        public List<NodePlan> getChildren() {
+            return children;
+        }
+
+        public double getColumnHeaderIndentation() {
+            return columnHeaderIndentation;
+        }
+
+        public double getColumnWidth() {
+            return columnWidth;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        public double getJustifiedWidth() {
+            return justifiedWidth;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("NodePlan [%s %s x %s]", field,
+                                 justifiedWidth, height);
+        }
+
+        /**
+         * Answer true if every wider width is planned with the structure of
+         * this plan
+         */
+        boolean isFinal() {
+            return true;
+        }
+
+        void structure(List<Integer> signature) {
+        }
+    }
+
+    /**
+     * The planned state of a relation's layout
+     */
+    public static class RelationPlan extends NodePlan {
+        private final double                 columnHeaderHeight;
+        private final List<List<ColumnPlan>> columnSets;
+        private final int                    resolvedCardinality;
+        private final double                 tableColumnWidth;
+        private final boolean                useTable;
+
+        RelationPlan(RelationLayout layout, List<NodePlan> children) {
+            super(layout, layout.cellHeight, children);
+            this.columnHeaderHeight = layout.columnHeaderHeight;
+            List<List<ColumnPlan>> sets = new ArrayList<>();
+            layout.columnSets.forEach(cs -> {
+                List<ColumnPlan> columns = new ArrayList<>();
+                cs.getColumns()
+                  .forEach(c -> columns.add(new ColumnPlan(c)));
+                sets.add(Collections.unmodifiableList(columns));
+            });
+            this.columnSets = Collections.unmodifiableList(sets);
+            this.resolvedCardinality = layout.resolvedCardinality;
+            this.tableColumnWidth = layout.tableColumnWidth;
+            this.useTable = layout.useTable;
+        }
+
+        public double getColumnHeaderHeight() {
+            return columnHeaderHeight;
+        }
+
+        /**
+         * Answer the column sets of the outline, each the list of its columns.
+         * The columns partition the children of the relation in order.
+         */
+        public List<List<ColumnPlan>> getColumnSets() {
+            return columnSets;
+        }
+
+        public int getResolvedCardinality() {
+            return resolvedCardinality;
+        }
+
+        public double getTableColumnWidth() {
+            return tableColumnWidth;
+        }
+
+        public boolean isUseTable() {
+            return useTable;
+        }
+
+        /**
+         * A table is nested to its leaves, and so is a table at every wider
+         * width
+         */
+        @Override
+        boolean isFinal() {
+            return useTable;
+        }
+
+        /**
+         * A table is built the same for every plan, an outline by the
+         * partition of its children into column sets and columns
+         */
+        @Override
+        void structure(List<Integer> signature) {
+            if (useTable) {
+                signature.add(-1);
+            } else {
+                signature.add(columnSets.size());
+                columnSets.forEach(columns -> {
+                    signature.add(columns.size());
+                    columns.forEach(c -> signature.add(c.getFields()));
+                });
+            }
+            getChildren().forEach(child -> child.structure(signature));
+        }
+    }
+
+    private final NodePlan      root;
+    private final List<Integer> structure;
+    private final double        width;
+
+    LayoutPlan(NodePlan root, double width) {
+        this.root = root;
+        this.width = width;
+        List<Integer> signature = new ArrayList<>();
+        root.structure(signature);
+        this.structure = Collections.unmodifiableList(signature);
+    }
+
+    /**
+     * Apply the plan to the layout tree it was planned for, or to a copy of
+     * that tree
+     */
+    public SchemaNodeLayout applyTo(SchemaNodeLayout layout) {
+        layout.apply(root);
+        return layout;
+    }
+
+    public NodePlan getRoot() {
+        return root;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Answer true if the controls built from the other plan have the shape of
+     * those built from this plan
+     */
+    public boolean hasStructureOf(LayoutPlan other) {
+        return other != null && structure.equals(other.structure);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LayoutPlan [%s @ %s]", root.getField(), width);
+    }
+
+    /**
+     * Answer true if every wider width is planned with the structure of this
+     * plan
+     */
+    boolean isFinal() {
+        return root.isFinal();
+    }
+}
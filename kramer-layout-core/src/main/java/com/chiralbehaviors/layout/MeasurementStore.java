@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.schema.Relation;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A directory of measurement snapshots, one file per key. The key of a
+ * snapshot is the hash of the schema measured, the contents of the style
+ * sheets in effect and the font environment, so a snapshot is only reused for
+ * the layout it was measured for, and not after a style sheet is edited in
+ * place or the fonts change.
+ *
+ * @author halhildebrand
+ *
+ */
+public class MeasurementStore {
+    public static final int                       VERSION = 1;
+
+    private static final java.util.logging.Logger log     = Logger.getLogger(MeasurementStore.class.getCanonicalName());
+    private static final ObjectMapper             MAPPER  = new ObjectMapper();
+
+    /**
+     * Answer the key of the measurement of the schema with the style sheets
+     */
+    public static String key(SchemaNode schema, List<String> styleSheets) {
+        return key(schema, styleSheets, "");
+    }
+
+    /**
+     * Answer the key of the measurement of the schema with the style sheets,
+     * in the font environment, such as the default font, that the measurement
+     * depends on. The contents of the style sheets are hashed into the key; a
+     * style sheet that cannot be read contributes only its URL.
+     */
+    public static String key(SchemaNode schema, List<String> styleSheets,
+                             String environment) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, schema);
+        update(digest, Integer.toString(styleSheets.size()));
+        styleSheets.forEach(sheet -> {
+            update(digest, sheet);
+            updateContents(digest, sheet);
+        });
+        update(digest, environment);
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    private static void update(MessageDigest digest, SchemaNode node) {
+        update(digest, node.getField());
+        update(digest, node.getLabel());
+        if (node instanceof Primitive) {
+            update(digest, "p");
+            update(digest, Double.toString(((Primitive) node).getDefaultWidth()));
+            return;
+        }
+        Relation relation = (Relation) node;
+        Relation fold = relation.getAutoFoldable();
+        update(digest, "r");
+        update(digest, fold == null ? "" : fold.getField());
+        update(digest, Integer.toString(relation.getChildren()
+                                                .size()));
+        relation.getChildren()
+                .forEach(child -> update(digest, child));
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length)
+                             .getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static void updateContents(MessageDigest digest, String sheet) {
+        byte[] contents;
+        try (InputStream is = new URL(sheet).openStream()) {
+            contents = is.readAllBytes();
+        } catch (IOException e) {
+            log.log(Level.FINE,
+                    String.format("Unable to read style sheet: %s", sheet), e);
+            update(digest, "");
+            return;
+        }
+        update(digest, Integer.toString(contents.length));
+        digest.update(contents);
+    }
+
+    private final Path directory;
+
+    public MeasurementStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Answer the snapshot stored under the key, or null if there is none, or
+     * it cannot be read
+     */
+    public JsonNode load(String key) {
+        try {
+            JsonNode stored = MAPPER.readTree(Files.readAllBytes(file(key)));
+            if (stored == null || stored.path("version")
+                                        .asInt() != VERSION) {
+                return null;
+            }
+            JsonNode snapshot = stored.get("layout");
+            return snapshot == null || snapshot.isNull() ? null : snapshot;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.log(Level.WARNING,
+                    String.format("Unable to read measurement snapshot: %s",
+                                  key),
+                    e);
+            return null;
+        }
+    }
+
+    /**
+     * Store the snapshot under the key, replacing any previous snapshot
+     */
+    public void store(String key, JsonNode snapshot) throws IOException {
+        ObjectNode stored = JsonNodeFactory.instance.objectNode();
+        stored.put("version", VERSION);
+        stored.set("layout", snapshot);
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            Files.write(temp, MAPPER.writeValueAsBytes(stored));
+            Files.move(temp, file(key), StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key + ".json");
+    }
+}
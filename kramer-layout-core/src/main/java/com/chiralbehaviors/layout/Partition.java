@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * The balancing of the fields of an outline's column set into columns
+ *
+ * @author halhildebrand
+ *
+ */
+public final class Partition {
+
+    /**
+     * Answer the ends of the contiguous partition of the heights into the
+     * columns that minimizes the height of the tallest column. Of partitions
+     * with equally tall columns, the one with the most heights in the leftmost
+     * columns is answered. No heights are answered as a single empty column.
+     */
+    public static int[] balance(double[] heights, int columns) {
+        int n = heights.length;
+        if (n == 0) {
+            return new int[] { 0 };
+        }
+        int k = min(columns, n);
+        double[] prefix = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            prefix[i + 1] = prefix[i] + heights[i];
+        }
+        // tallest[j][i]: the least height of the tallest column of the first i
+        // heights partitioned into j + 1 columns, whose last column starts at
+        // split[j][i]
+        double[][] tallest = new double[k][n + 1];
+        int[][] split = new int[k][n + 1];
+        System.arraycopy(prefix, 0, tallest[0], 0, n + 1);
+        for (int j = 1; j < k; j++) {
+            for (int i = j + 1; i <= n; i++) {
+                double best = Double.MAX_VALUE;
+                int bestSplit = j;
+                for (int m = j; m < i; m++) {
+                    double height = max(tallest[j - 1][m],
+                                        prefix[i] - prefix[m]);
+                    if (height <= best) {
+                        best = height;
+                        bestSplit = m;
+                    }
+                }
+                tallest[j][i] = best;
+                split[j][i] = bestSplit;
+            }
+        }
+        int[] ends = new int[k];
+        int end = n;
+        for (int j = k - 1; j >= 0; j--) {
+            ends[j] = end;
+            end = split[j][end];
+        }
+        return ends;
+    }
+
+    private Partition() {
+    }
+}
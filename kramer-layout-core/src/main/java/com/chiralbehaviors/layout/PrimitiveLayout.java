@@ -0,0 +1,381 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import static com.chiralbehaviors.layout.LayoutModel.snap;
+
+import java.util.Collections;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import com.chiralbehaviors.layout.LayoutPlan.NodePlan;
+import com.chiralbehaviors.layout.schema.FieldPath;
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.style.PrimitiveMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ *
+ * @author halhildebrand
+ *
+ */
+public class PrimitiveLayout extends SchemaNodeLayout {
+    protected int                    averageCardinality;
+    protected double                 maxWidth;
+    protected final PrimitiveMetrics style;
+    private int                      cardinality;
+    private double                   cellHeight;
+    private int                      count;
+    private SamplingPolicy.Estimate  estimate;
+    private final FieldPath          path;
+    private double                   summedWidth;
+    @SuppressWarnings("unused")
+    private boolean                  variableLength;
+
+    public PrimitiveLayout(Primitive p, PrimitiveMetrics style) {
+        super(p, style.getLabelStyle());
+        this.style = style;
+        this.path = FieldPath.of(p.getField());
+    }
+
+    @Override
+    public double calculateTableColumnWidth() {
+        return columnWidth();
+    }
+
+    @Override
+    public double cellHeight(int cardinality, double justified) {
+        if (height > 0) {
+            return height;
+        }
+        int resolvedCardinality = Math.min(cardinality, averageCardinality);
+        boolean list = resolvedCardinality > 1;
+        cellHeight = snap(style.getHeight(maxWidth, justified));
+        if (list) {
+            height = (cellHeight * resolvedCardinality)
+                     + style.getListVerticalInset();
+        } else {
+            height = cellHeight;
+        }
+        return height;
+    }
+
+    @Override
+    public double columnWidth() {
+        return Math.max(columnWidth, labelWidth);
+    }
+
+    @Override
+    public void compress(double available) {
+        justifiedWidth = LayoutModel.snap(available);
+    }
+
+    @Override
+    public JsonNode extractFrom(JsonNode datum) {
+        return path.apply(datum);
+    }
+
+    public int getAverageCardinality() {
+        return averageCardinality;
+    }
+
+    public double getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Answer the estimate of the last measurement if it was sampled, or null if
+     * every row was measured
+     */
+    public SamplingPolicy.Estimate getEstimate() {
+        return estimate;
+    }
+
+    public PrimitiveMetrics getStyle() {
+        return style;
+    }
+
+    public boolean isSampled() {
+        return estimate != null;
+    }
+
+    @Override
+    public Primitive getNode() {
+        return (Primitive) node;
+    }
+
+    @Override
+    public double justify(double justified) {
+        justifiedWidth = LayoutModel.snap(justified);
+        return justifiedWidth;
+    }
+
+    @Override
+    public double layout(double width) {
+        clear();
+        return width;
+    }
+
+    @Override
+    public double layoutWidth() {
+        return columnWidth();
+    }
+
+    @Override
+    public double measure(JsonNode data, Function<JsonNode, JsonNode> extractor,
+                          LayoutModel model, BooleanSupplier cancelled) {
+        reset();
+        if (!sampled(data, model)) {
+            accumulate(data, cancelled);
+        }
+        return summarize();
+    }
+
+    @Override
+    public SchemaNodeLayout measure(JsonNode datum, LayoutModel layout,
+                                    BooleanSupplier cancelled) {
+        ArrayNode setOf = JsonNodeFactory.instance.arrayNode();
+        setOf.add(datum);
+        measure(setOf, n -> n, layout, cancelled);
+        return this;
+    }
+
+    /**
+     * Merge the appended data into the running width and cardinality
+     * statistics. If the last measurement was sampled, the appended data is
+     * measured in full and merged with the estimated statistics.
+     */
+    @Override
+    public boolean merge(JsonNode data, LayoutModel model) {
+        int priorCardinality = averageCardinality;
+        double priorWidth = columnWidth;
+        double priorMaxWidth = maxWidth;
+        accumulate(data, NOT_CANCELLED);
+        summarize();
+        return priorCardinality != averageCardinality
+               || priorWidth != columnWidth || priorMaxWidth != maxWidth;
+    }
+
+    @Override
+    public double nestTableColumn(Indent indent, Indentation inset) {
+        switch (indent) {
+            case LEFT:
+                columnHeaderIndentation = inset.getLeft();
+                break;
+            case NONE:
+                break;
+            case RIGHT:
+                columnHeaderIndentation = inset.getRight();
+                break;
+            case SINGULAR:
+                columnHeaderIndentation = inset.getLeft() + inset.getRight();
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("%s is not a valid primitive indentation",
+                                                                 indent));
+
+        }
+        return tableColumnWidth();
+    }
+
+    @Override
+    public void normalizeRowHeight(double normalized) {
+        height = normalized;
+    }
+
+    @Override
+    public double rowHeight(int averageCardinality, double justifiedWidth) {
+        return cellHeight(1, justifiedWidth);
+    }
+
+    @Override
+    public ObjectNode snapshot() {
+        ObjectNode snapshot = snapshotOf();
+        snapshot.put("labelWidth", labelWidth);
+        snapshot.put("columnWidth", columnWidth);
+        snapshot.put("averageCardinality", averageCardinality);
+        snapshot.put("maxWidth", maxWidth);
+        snapshot.put("cardinality", cardinality);
+        snapshot.put("count", count);
+        snapshot.put("summedWidth", summedWidth);
+        return snapshot;
+    }
+
+    @Override
+    public double tableColumnWidth() {
+        return columnWidth();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PrimitiveLayout [%s %s height, width {c: %s, j: %s} ]",
+                             node.getField(), height, columnWidth,
+                             justifiedWidth);
+    }
+
+    /**
+     * Answer the height of the values of a single row, rather than the height
+     * of the rows of the parent relation that this layout is normalized to
+     */
+    public double valueHeight() {
+        return averageCardinality > 1 ? snap((cellHeight * averageCardinality)
+                                             + style.getListVerticalInset())
+                                      : cellHeight;
+    }
+
+    @Override
+    protected void calculateRootHeight() {
+        cellHeight(averageCardinality, justifiedWidth);
+    }
+
+    @Override
+    protected void apply(NodePlan plan) {
+        super.apply(plan);
+        cellHeight = plan.getCellHeight();
+    }
+
+    @Override
+    protected NodePlan capture() {
+        return new NodePlan(this, cellHeight, Collections.emptyList());
+    }
+
+    @Override
+    protected double measuredWidth() {
+        return columnWidth;
+    }
+
+    @Override
+    protected void restoreFrom(JsonNode snapshot, LayoutModel model) {
+        validate(snapshot);
+        clear();
+        estimate = null;
+        labelWidth = snapshot.path("labelWidth")
+                             .asDouble();
+        maxWidth = snapshot.path("maxWidth")
+                           .asDouble();
+        cardinality = snapshot.path("cardinality")
+                              .asInt();
+        count = snapshot.path("count")
+                        .asInt();
+        summedWidth = snapshot.path("summedWidth")
+                              .asDouble();
+        summarize();
+    }
+
+    protected double width(JsonNode row) {
+        return style.width(row);
+    }
+
+    private void accumulate(JsonNode data, BooleanSupplier cancelled) {
+        Iterable<JsonNode> prims = data.isArray() ? data
+                                                  : Collections.singletonList(data);
+        for (JsonNode prim : prims) {
+            checkCancelled(cancelled);
+            if (prim.isArray()) {
+                accumulateList(prim);
+            } else {
+                cardinality += 1;
+                double w = width(prim);
+                summedWidth += w;
+                maxWidth = Math.max(maxWidth, w);
+            }
+        }
+        count += data.size();
+    }
+
+    private void accumulateList(JsonNode prim) {
+        cardinality += prim.size();
+        double summed = 0;
+        for (JsonNode row : prim) {
+            double w = width(row);
+            summed += w;
+            maxWidth = Math.max(maxWidth, w);
+        }
+        summedWidth += prim.size() == 0 ? 1 : summed / prim.size();
+    }
+
+    private void reset() {
+        clear();
+        labelWidth = labelWidth(node.getLabel());
+        maxWidth = 0;
+        columnWidth = 0;
+        cardinality = 0;
+        count = 0;
+        summedWidth = 0;
+        estimate = null;
+    }
+
+    /**
+     * Estimate the statistics of the data from a sample, if the sampling
+     * policy applies to the data
+     */
+    private boolean sampled(JsonNode data, LayoutModel model) {
+        SamplingPolicy sampling = model.getSamplingPolicy();
+        if (sampling == null || !data.isArray()
+            || !sampling.applies(data.size())) {
+            return false;
+        }
+        estimate = sample(data, sampling);
+        count = estimate.population;
+        summedWidth = estimate.averageWidth * count;
+        cardinality = (int) (estimate.averageCardinality * count);
+        maxWidth = estimate.maxWidth;
+        return true;
+    }
+
+    private SamplingPolicy.Estimate sample(JsonNode data,
+                                           SamplingPolicy sampling) {
+        SamplingPolicy.Sampler sampler = new SamplingPolicy.Sampler(data.size());
+        for (int index : sampling.sample(data.size())) {
+            JsonNode prim = data.get(index);
+            if (prim.isArray()) {
+                double summedWidth = 0;
+                double rowMax = 0;
+                for (JsonNode row : prim) {
+                    double w = width(row);
+                    summedWidth += w;
+                    rowMax = Math.max(rowMax, w);
+                }
+                sampler.add(prim.size() == 0 ? 1 : summedWidth / prim.size(),
+                            prim.size(), rowMax);
+            } else {
+                double w = width(prim);
+                sampler.add(w, 1, w);
+            }
+        }
+        return sampler.estimate();
+    }
+
+    private double summarize() {
+        double averageWidth = 0;
+        averageCardinality = 1;
+        if (count > 0) {
+            averageCardinality = cardinality / count;
+            averageWidth = summedWidth / count;
+        }
+        columnWidth = Math.max(labelWidth,
+                               LayoutModel.snap(Math.max(getNode().getDefaultWidth(),
+                                                         averageWidth)));
+        if (maxWidth > averageWidth) {
+            variableLength = true;
+        }
+        return columnWidth;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,762 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import static com.chiralbehaviors.layout.LayoutModel.snap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.chiralbehaviors.layout.LayoutPlan.ColumnPlan;
+import com.chiralbehaviors.layout.LayoutPlan.NodePlan;
+import com.chiralbehaviors.layout.LayoutPlan.RelationPlan;
+import com.chiralbehaviors.layout.schema.FieldPath;
+import com.chiralbehaviors.layout.schema.FoldView;
+import com.chiralbehaviors.layout.schema.Relation;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+import com.chiralbehaviors.layout.style.RelationInsets;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ *
+ * @author halhildebrand
+ *
+ */
+public class RelationLayout extends SchemaNodeLayout {
+
+    /**
+     * The running statistics of a child's fold and measurement
+     */
+    protected static class ChildStatistics {
+        protected int    cardinality;
+        protected int    count;
+        protected double width;
+
+        protected ChildStatistics(Fold fold, double width) {
+            this(fold.cardinality, fold.count, width);
+        }
+
+        protected ChildStatistics(int cardinality, int count, double width) {
+            this.cardinality = cardinality;
+            this.count = count;
+            this.width = width;
+        }
+
+        protected int averageCardinality() {
+            return SchemaNodeLayout.averageCardinality(cardinality, count);
+        }
+    }
+
+    protected static class Measured {
+        protected final Fold   fold;
+        protected final double width;
+
+        protected Measured(Fold fold, double width) {
+            this.fold = fold;
+            this.width = width;
+        }
+    }
+
+    public static final int                MAX_AVERAGE_CARDINALITY = 4;
+
+    public static ArrayNode flatten(Relation fold, JsonNode datum) {
+        return FoldView.flatten(datum, fold.getField());
+    }
+
+    protected int                          averageChildCardinality;
+    protected double                       cellHeight              = -1;
+    protected final List<SchemaNodeLayout> children                = new ArrayList<>();
+    protected double                       columnHeaderHeight;
+    protected final List<ColumnSet>        columnSets              = new ArrayList<>();
+    protected int                          maxCardinality;
+    protected double                       measuredWidth;
+    protected FieldPath                    path;
+    protected int                          resolvedCardinality;
+    protected final List<ChildStatistics>  statistics              = new ArrayList<>();
+    protected final RelationInsets         style;
+    protected double                       tableColumnWidth        = 0;
+    protected boolean                      useTable                = false;
+
+    public RelationLayout(Relation r, RelationInsets style) {
+        super(r, style.getLabelStyle());
+        assert r != null && style != null;
+        this.style = style;
+    }
+
+    @Override
+    public void adjustHeight(double delta) {
+        super.adjustHeight(delta);
+        if (useTable) {
+            double subDelta = delta / resolvedCardinality;
+            if (delta >= 1.0) {
+                cellHeight = LayoutModel.snap(cellHeight + subDelta);
+                if (subDelta > 1.0) {
+                    children.forEach(f -> f.adjustHeight(subDelta));
+                }
+            }
+        } else {
+            double subDelta = delta / columnSets.size();
+            if (subDelta >= 1.0) {
+                columnSets.forEach(c -> c.adjustHeight(subDelta));
+            }
+        }
+    }
+
+    public double baseRowCellHeight(double extended) {
+        return LayoutModel.snap(extended - style.getRowCellVerticalInset()
+                                - style.getRowVerticalInset());
+    }
+
+    @Override
+    public double calculateLabelWidth() {
+        return labelWidth(getLabel());
+    }
+
+    @Override
+    public double calculateTableColumnWidth() {
+        return children.stream()
+                       .mapToDouble(c -> c.calculateTableColumnWidth())
+                       .sum()
+               + style.getRowCellHorizontalInset()
+               + style.getRowHorizontalInset();
+    }
+
+    @Override
+    public double cellHeight(int cardinality, double width) {
+        if (height > 0) {
+            return height;
+        }
+        resolvedCardinality = resolveCardinality(cardinality);
+        if (useTable) {
+            calculateTableHeight();
+        } else {
+            calculateOutlineHeight();
+        }
+        return height;
+    }
+
+    @Override
+    public double columnHeaderHeight() {
+        if (columnHeaderHeight <= 0) {
+            columnHeaderHeight = LayoutModel.snap((labelStyle.getHeight())
+                                                  + children.stream()
+                                                            .mapToDouble(c -> c.columnHeaderHeight())
+                                                            .max()
+                                                            .orElse(0.0));
+        }
+        return columnHeaderHeight;
+    }
+
+    @Override
+    public double columnWidth() {
+        return LayoutModel.snap(columnWidth
+                                + style.getOutlineCellHorizontalInset());
+    }
+
+    @Override
+    public void compress(double justified) {
+        if (useTable) {
+            justifyTable(justified);
+            return;
+        }
+        columnSets.clear();
+        justifiedWidth = LayoutModel.snap(justified
+                                          - style.getOutlineHorizontalInset()
+                                          - style.getOutlineCellHorizontalInset());
+        columnSets.clear();
+        ColumnSet current = null;
+        double available = LayoutModel.snap(justifiedWidth
+                                            - style.getSpanHorizontalInset());
+        double halfWidth = LayoutModel.snap((available / 2.0)
+                                            - style.getColumnHorizontalInset()
+                                            - style.getElementHorizontalInset());
+        for (SchemaNodeLayout child : children) {
+            double childWidth = labelWidth + child.layoutWidth();
+            if (childWidth > halfWidth || current == null) {
+                current = new ColumnSet();
+                columnSets.add(current);
+                current.add(child);
+                if (childWidth > halfWidth) {
+                    current = null;
+                }
+            } else {
+                current.add(child);
+            }
+        }
+        cellHeight = LayoutModel.snap(columnSets.stream()
+                                                .mapToDouble(cs -> LayoutModel.snap(cs.compress(averageChildCardinality,
+                                                                                                available,
+                                                                                                style,
+                                                                                                labelWidth)
+                                                                                    + style.getSpanVerticalInset()))
+                                                .sum());
+    }
+
+    @Override
+    public JsonNode extractFrom(JsonNode datum) {
+        return path.apply(datum);
+    }
+
+    /**
+     * Answer the height of the header of the primitive columns of this layout,
+     * as a row of a flattened table
+     */
+    public double flatHeaderHeight() {
+        return LayoutModel.snap(children.stream()
+                                        .filter(c -> c instanceof PrimitiveLayout)
+                                        .mapToDouble(c -> c.columnHeaderHeight())
+                                        .max()
+                                        .orElse(0.0));
+    }
+
+    /**
+     * Answer the height of a row of the primitive values of this layout, as a
+     * row of a flattened table
+     */
+    public double flatRowHeight() {
+        double values = children.stream()
+                                .filter(c -> c instanceof PrimitiveLayout)
+                                .mapToDouble(c -> ((PrimitiveLayout) c).valueHeight())
+                                .max()
+                                .orElse(0.0);
+        return LayoutModel.snap(values + style.getRowCellVerticalInset()
+                                + style.getRowVerticalInset());
+    }
+
+    public void forEach(Consumer<? super SchemaNodeLayout> action) {
+        children.forEach(action);
+    }
+
+    public int getAverageCardinality() {
+        return averageChildCardinality;
+    }
+
+    public double getCellHeight() {
+        return cellHeight;
+    }
+
+    public List<SchemaNodeLayout> getChildren() {
+        return children;
+    }
+
+    /**
+     * Answer the column sets of the outline of the layout
+     */
+    public List<ColumnSet> getColumnSets() {
+        return columnSets;
+    }
+
+    @Override
+    public Relation getNode() {
+        return (Relation) node;
+    }
+
+    public int getResolvedCardinality() {
+        return resolvedCardinality;
+    }
+
+    public RelationInsets getStyle() {
+        return style;
+    }
+
+    public String getStyleClass() {
+        return node.getField();
+    }
+
+    /**
+     * Answer true if the layout is planned as a table
+     */
+    public boolean isUseTable() {
+        return useTable;
+    }
+
+    @Override
+    public double justify(double justifed) {
+        justifyColumn(LayoutModel.snap(justifed - columnHeaderIndentation));
+        return justifed;
+    }
+
+    public double justifyTable(double justifed) {
+        justifyColumn(LayoutModel.snap(justifed - columnHeaderIndentation));
+        return justifed;
+    }
+
+    @Override
+    public double layout(double width) {
+        clear();
+        double available = (width - labelWidth)
+                           - style.getOutlineCellHorizontalInset()
+                           - style.getOutlineCellHorizontalInset();
+        assert available > 0;
+        columnWidth = children.stream()
+                              .mapToDouble(c -> c.layout(available))
+                              .max()
+                              .orElse(0.0)
+                      + labelWidth;
+        double tableWidth = calculateTableColumnWidth();
+        if (tableWidth <= columnWidth()) {
+            return nestTableColumn(Indent.TOP, Indentation.NONE);
+        }
+        return columnWidth();
+    }
+
+    @Override
+    public double layoutWidth() {
+        return useTable ? tableColumnWidth() : columnWidth();
+    }
+
+    @Override
+    public double measure(JsonNode datum,
+                          Function<JsonNode, JsonNode> extractor,
+                          LayoutModel model, BooleanSupplier cancelled) {
+        clear();
+        children.clear();
+        statistics.clear();
+        maxCardinality = datum.size();
+
+        for (Measured measured : measureChildren(datum, extractor, model,
+                                                 cancelled)) {
+            children.add(measured.fold.getLayout());
+            statistics.add(new ChildStatistics(measured.fold, measured.width));
+        }
+        return summarize();
+    }
+
+    /**
+     * Fold the appended data for each child, merging the fold statistics and
+     * the child's measurement with the running statistics of the child's
+     * layout
+     */
+    @Override
+    public boolean merge(JsonNode datum, LayoutModel model) {
+        int priorCardinality = averageChildCardinality;
+        int priorMaxCardinality = Math.min(maxCardinality,
+                                           MAX_AVERAGE_CARDINALITY);
+        double priorWidth = measuredWidth;
+        maxCardinality += datum.size();
+        boolean changed = false;
+        List<SchemaNode> nodes = getNode().getChildren();
+        for (int i = 0; i < nodes.size(); i++) {
+            SchemaNodeLayout child = children.get(i);
+            ChildStatistics childStatistics = statistics.get(i);
+            int childCardinality = childStatistics.averageCardinality();
+            Fold fold = child.fold(unfold(nodes.get(i), child, datum),
+                                   n -> n, model);
+            childStatistics.cardinality += fold.cardinality;
+            childStatistics.count += fold.count;
+            if (child.merge(fold.datum, model)
+                || childCardinality != childStatistics.averageCardinality()) {
+                changed = true;
+            }
+            childStatistics.width = child.measuredWidth();
+        }
+        summarize();
+        return changed || priorCardinality != averageChildCardinality
+               || priorMaxCardinality != Math.min(maxCardinality,
+                                                  MAX_AVERAGE_CARDINALITY)
+               || priorWidth != measuredWidth;
+    }
+
+    @Override
+    public double nestTableColumn(Indent indent, Indentation indentation) {
+        useTable = true;
+        cellHeight = -1.0;
+        columnHeaderHeight = -1.0;
+        height = -1.0;
+        columnHeaderIndentation = indentation.getLeft() + indentation.getRight()
+                                  + style.getNestedHorizontalInset();
+        tableColumnWidth = LayoutModel.snap(children.stream()
+                                                    .mapToDouble(c -> {
+                                                  Indent child = indent(indent,
+                                                                        c);
+                                                  return c.nestTableColumn(child,
+                                                                           indent.indent(indentation,
+                                                                                         child,
+                                                                                         style.getNestedIndentation()));
+                                              })
+                                              .sum());
+        return tableColumnWidth();
+    }
+
+    @Override
+    public void normalizeRowHeight(double normalized) {
+        double deficit = normalized - height;
+        double childDeficit = deficit / resolvedCardinality;
+        cellHeight = LayoutModel.snap(cellHeight + childDeficit);
+        height = normalized;
+
+        children.forEach(c -> c.normalizeRowHeight(cellHeight));
+    }
+
+    /**
+     * Answer the identity of the rows of the relation, or null if its rows
+     * have no identity
+     */
+    public Function<JsonNode, JsonNode> rowIdentity() {
+        Relation relation = getNode();
+        return relation.getKey() == null ? null : relation::identityOf;
+    }
+
+    @Override
+    public double rowHeight(int cardinality, double justified) {
+        resolvedCardinality = resolveCardinality(cardinality);
+        cellHeight = calculateRowHeight();
+        height = LayoutModel.snap((resolvedCardinality * cellHeight)
+                                  + style.getRowVerticalInset());
+        return height;
+    }
+
+    @Override
+    public ObjectNode snapshot() {
+        ObjectNode snapshot = snapshotOf();
+        snapshot.put("labelWidth", labelWidth);
+        snapshot.put("measuredWidth", measuredWidth);
+        snapshot.put("averageCardinality", averageChildCardinality);
+        snapshot.put("maxCardinality", maxCardinality);
+        ArrayNode childSnapshots = snapshot.putArray("children");
+        for (int i = 0; i < children.size(); i++) {
+            ChildStatistics childStatistics = statistics.get(i);
+            ObjectNode child = childSnapshots.addObject();
+            child.put("cardinality", childStatistics.cardinality);
+            child.put("count", childStatistics.count);
+            child.put("width", childStatistics.width);
+            child.set("layout", children.get(i)
+                                        .snapshot());
+        }
+        return snapshot;
+    }
+
+    @Override
+    public double tableColumnWidth() {
+        assert tableColumnWidth > 0.0 : String.format("%s tcw <= 0: %s",
+                                                      node.getLabel(),
+                                                      tableColumnWidth);
+        return LayoutModel.snap(tableColumnWidth + columnHeaderIndentation);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RelationLayout [%s %s height x %s card, width {o: %s, t: %s, j: %s} ]",
+                             node.getField(), height, averageChildCardinality,
+                             columnWidth, tableColumnWidth, justifiedWidth);
+    }
+
+    protected void calculateOutlineHeight() {
+        height = LayoutModel.snap((resolvedCardinality
+                                   * LayoutModel.snap(cellHeight
+                                                      + style.getOutlineCellVerticalInset()))
+                                  + style.getOutlineVerticalInset());
+    }
+
+    @Override
+    protected void calculateRootHeight() {
+        if (useTable) {
+            cellHeight(resolvedCardinality, justifiedWidth);
+        }
+    }
+
+    protected double calculateRowHeight() {
+        double elementHeight = LayoutModel.snap(children.stream()
+                                                        .mapToDouble(child -> child.rowHeight(averageChildCardinality,
+                                                                                              justifiedWidth))
+                                                        .max()
+                                                        .getAsDouble());
+        children.forEach(c -> c.normalizeRowHeight(elementHeight));
+        return LayoutModel.snap(elementHeight + style.getRowCellVerticalInset()
+                                + style.getRowVerticalInset());
+    }
+
+    protected void calculateTableHeight() {
+        columnHeaderHeight = snap(children.stream()
+                                          .mapToDouble(c -> c.columnHeaderHeight())
+                                          .max()
+                                          .orElse(0.0));
+        cellHeight = calculateRowHeight();
+        height = LayoutModel.snap((resolvedCardinality * cellHeight)
+                                  + columnHeaderHeight)
+                 + style.getRowVerticalInset() + style.getTableVerticalInset();
+    }
+
+    /**
+     * Apply the plan to this layout and its children, rebuilding the column
+     * sets of the outline from the planned partition of the children
+     */
+    @Override
+    protected void apply(NodePlan plan) {
+        super.apply(plan);
+        RelationPlan relationPlan = (RelationPlan) plan;
+        List<NodePlan> childPlans = relationPlan.getChildren();
+        if (childPlans.size() != children.size()) {
+            throw new IllegalArgumentException(String.format("Plan of %s has %s children, expected %s",
+                                                             getField(),
+                                                             childPlans.size(),
+                                                             children.size()));
+        }
+        cellHeight = relationPlan.getCellHeight();
+        columnHeaderHeight = relationPlan.getColumnHeaderHeight();
+        resolvedCardinality = relationPlan.getResolvedCardinality();
+        tableColumnWidth = relationPlan.getTableColumnWidth();
+        useTable = relationPlan.isUseTable();
+        for (int i = 0; i < children.size(); i++) {
+            children.get(i)
+                    .apply(childPlans.get(i));
+        }
+        columnSets.clear();
+        int child = 0;
+        for (List<ColumnPlan> columnPlans : relationPlan.getColumnSets()) {
+            List<Column> columns = new ArrayList<>();
+            for (ColumnPlan columnPlan : columnPlans) {
+                Column column = new Column(columnPlan.getWidth());
+                for (int i = 0; i < columnPlan.getFields(); i++) {
+                    column.add(children.get(child++));
+                }
+                columns.add(column);
+            }
+            columnSets.add(new ColumnSet(columns));
+        }
+    }
+
+    @Override
+    protected NodePlan capture() {
+        return new RelationPlan(this, children.stream()
+                                              .map(child -> child.capture())
+                                              .collect(Collectors.toList()));
+    }
+
+    @Override
+    protected void clear() {
+        super.clear();
+        useTable = false;
+        tableColumnWidth = -1.0;
+        columnHeaderHeight = -1.0;
+    }
+
+    @Override
+    protected Fold fold(JsonNode datum, Function<JsonNode, JsonNode> extractor,
+                        LayoutModel model) {
+
+        Relation fold = getNode().getAutoFoldable();
+        if (fold != null) {
+            return model.layout(fold)
+                        .fold(flatten(getNode(), datum), FieldPath.of(extractor)
+                                                                  .then(getField()),
+                              model);
+        }
+        path = FieldPath.of(extractor)
+                        .then(getField());
+
+        return fold(datum);
+    }
+
+    protected Indent indent(Indent parent, SchemaNodeLayout child) {
+
+        boolean isFirst = isFirst(child);
+        boolean isLast = isLast(child);
+        if (isFirst && isLast) {
+            return Indent.SINGULAR;
+        }
+        if (isFirst) {
+            return Indent.LEFT;
+        } else if (isLast) {
+            return Indent.RIGHT;
+        } else {
+            return Indent.NONE;
+        }
+    }
+
+    protected boolean isFirst(SchemaNodeLayout child) {
+        return child.equals(children.get(0));
+    }
+
+    protected boolean isLast(SchemaNodeLayout child) {
+        return child.equals(children.get(children.size() - 1));
+    }
+
+    protected void justifyColumn(double available) {
+        double[] remaining = new double[] { available };
+        SchemaNodeLayout last = children.get(children.size() - 1);
+        justifiedWidth = LayoutModel.snap(available);
+        children.forEach(child -> {
+            double childJustified = LayoutModel.relax(available
+                                                      * (child.tableColumnWidth()
+                                                         / tableColumnWidth));
+
+            if (child.equals(last)) {
+                childJustified = remaining[0];
+            } else {
+                remaining[0] -= childJustified;
+            }
+            child.justify(childJustified);
+        });
+    }
+
+    /**
+     * Fold and measure each child. With a measure pool, the children are
+     * measured in parallel, as their measurements are independent until
+     * reduced by the caller; the results are in the order of the children.
+     * The cancellation is checked before each child is measured.
+     */
+    protected List<Measured> measureChildren(JsonNode datum,
+                                             Function<JsonNode, JsonNode> extractor,
+                                             LayoutModel model,
+                                             BooleanSupplier cancelled) {
+        List<SchemaNode> nodes = getNode().getChildren();
+        ForkJoinPool pool = model.getMeasurePool();
+        if (pool == null || nodes.size() < 2) {
+            return nodes.stream()
+                        .map(child -> measureChild(child, datum, extractor,
+                                                   model, cancelled))
+                        .collect(Collectors.toList());
+        }
+        if (ForkJoinTask.getPool() != pool) {
+            return model.withResolvedStyles(getNode(),
+                                            () -> pool.invoke(ForkJoinTask.adapt(() -> measureChildren(datum,
+                                                                                                       extractor,
+                                                                                                       model,
+                                                                                                       cancelled))));
+        }
+        List<ForkJoinTask<Measured>> tasks = nodes.stream()
+                                                  .map(child -> ForkJoinTask.adapt(() -> measureChild(child,
+                                                                                                      datum,
+                                                                                                      extractor,
+                                                                                                      model,
+                                                                                                      cancelled)))
+                                                  .collect(Collectors.toList());
+        ForkJoinTask.invokeAll(tasks);
+        return tasks.stream()
+                    .map(task -> task.join())
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    protected double measuredWidth() {
+        return measuredWidth;
+    }
+
+    /**
+     * Restore the child layouts, folded as they would be if measured, and their
+     * statistics, then derive this layout's measurement from them
+     */
+    @Override
+    protected void restoreFrom(JsonNode snapshot, LayoutModel model) {
+        validate(snapshot);
+        List<SchemaNode> nodes = getNode().getChildren();
+        JsonNode childSnapshots = snapshot.path("children");
+        if (childSnapshots.size() != nodes.size()) {
+            throw new IllegalArgumentException(String.format("Snapshot of %s has %s children, expected %s",
+                                                             getField(),
+                                                             childSnapshots.size(),
+                                                             nodes.size()));
+        }
+        clear();
+        children.clear();
+        statistics.clear();
+        maxCardinality = snapshot.path("maxCardinality")
+                                 .asInt();
+        for (int i = 0; i < nodes.size(); i++) {
+            JsonNode childSnapshot = childSnapshots.get(i);
+            SchemaNodeLayout child = model.layout(nodes.get(i))
+                                          .fold(JsonNodeFactory.instance.arrayNode(),
+                                                n -> n, model)
+                                          .getLayout();
+            child.restoreFrom(childSnapshot.path("layout"), model);
+            children.add(child);
+            statistics.add(new ChildStatistics(childSnapshot.path("cardinality")
+                                                            .asInt(),
+                                               childSnapshot.path("count")
+                                                            .asInt(),
+                                               childSnapshot.path("width")
+                                                            .asDouble()));
+        }
+        summarize();
+    }
+
+    protected int resolveCardinality(int cardinality) {
+        return Math.max(1, Math.min(cardinality, maxCardinality));
+    }
+
+    private Measured measureChild(SchemaNode child, JsonNode datum,
+                                  Function<JsonNode, JsonNode> extractor,
+                                  LayoutModel model,
+                                  BooleanSupplier cancelled) {
+        checkCancelled(cancelled);
+        Fold fold = model.layout(child)
+                         .fold(datum, extractor, model);
+        return new Measured(fold, fold.getLayout()
+                                      .measure(fold.datum, n -> n, model,
+                                               cancelled));
+    }
+
+    private double summarize() {
+        double width = 0;
+        double sum = 0;
+        int singularChildren = 0;
+        for (ChildStatistics childStatistics : statistics) {
+            width = LayoutModel.snap(Math.max(width, childStatistics.width));
+            int cardinality = childStatistics.averageCardinality();
+            if (cardinality == 1) {
+                singularChildren++;
+            } else {
+                sum += cardinality;
+            }
+        }
+        int effectiveChildren = statistics.size() - singularChildren;
+        averageChildCardinality = Math.max(1,
+                                           Math.min(MAX_AVERAGE_CARDINALITY,
+                                                    effectiveChildren == 0 ? 1
+                                                                           : (int) Math.ceil(sum
+                                                                                             / effectiveChildren)));
+
+        labelWidth = children.stream()
+                             .mapToDouble(child -> child.calculateLabelWidth())
+                             .max()
+                             .getAsDouble();
+        columnWidth = LayoutModel.snap(labelWidth + width);
+        measuredWidth = columnWidth + style.getElementHorizontalInset()
+                        + style.getColumnHorizontalInset()
+                        + style.getSpanHorizontalInset()
+                        + style.getOutlineCellHorizontalInset();
+        return measuredWidth;
+    }
+
+    /**
+     * Answer the datum flattened through the auto folded relations between the
+     * child node and the node of its layout, which is the fold's
+     */
+    private JsonNode unfold(SchemaNode node, SchemaNodeLayout child,
+                            JsonNode datum) {
+        while (node != child.getNode()) {
+            Relation relation = (Relation) node;
+            datum = flatten(relation, datum);
+            node = relation.getAutoFoldable();
+        }
+        return datum;
+    }
+
+    public double getJustifiedTableColumnWidth() {
+        return snap(justifiedWidth + columnHeaderIndentation);
+    }
+}
\ No newline at end of file
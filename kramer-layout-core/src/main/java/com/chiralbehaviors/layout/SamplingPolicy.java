@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import java.util.SplittableRandom;
+
+/**
+ * Governs sampled measurement of primitive columns. When the data measured
+ * has more rows than the threshold, a stratified sample of the budgeted size
+ * is measured instead: the rows are divided into equal strata and one row is
+ * drawn at random from each. The seed is fixed so that measuring the same
+ * data twice produces the same layout.
+ *
+ * @author halhildebrand
+ *
+ */
+public class SamplingPolicy {
+
+    /**
+     * The statistics of a sampled measurement and their error bounds. Error
+     * bounds are the half width of the 95% confidence interval of the mean,
+     * with the finite population correction applied. The sampled maximum width
+     * is only a lower bound of the true maximum.
+     */
+    public static class Estimate {
+        public final double averageCardinality;
+        public final double averageCardinalityError;
+        public final double averageWidth;
+        public final double averageWidthError;
+        public final double maxWidth;
+        public final int    population;
+        public final int    sampleSize;
+
+        Estimate(int population, int sampleSize, double averageWidth,
+                 double averageWidthError, double averageCardinality,
+                 double averageCardinalityError, double maxWidth) {
+            this.population = population;
+            this.sampleSize = sampleSize;
+            this.averageWidth = averageWidth;
+            this.averageWidthError = averageWidthError;
+            this.averageCardinality = averageCardinality;
+            this.averageCardinalityError = averageCardinalityError;
+            this.maxWidth = maxWidth;
+        }
+
+        /**
+         * Answer true if the width estimate is within the relative tolerance,
+         * i.e. if a full pass is unlikely to change the measured column width
+         * by more than that fraction
+         */
+        public boolean isWithin(double relativeTolerance) {
+            return averageWidth <= 0.0
+                   || averageWidthError / averageWidth <= relativeTolerance;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Estimate [%s of %s, width: %.2f +/- %.2f, card: %.2f +/- %.2f, max >= %.2f]",
+                                 sampleSize, population, averageWidth,
+                                 averageWidthError, averageCardinality,
+                                 averageCardinalityError, maxWidth);
+        }
+    }
+
+    /**
+     * Accumulates the per row statistics of a sample
+     */
+    static class Sampler {
+        private double    cardSum;
+        private double    cardSumSq;
+        private int       count;
+        private double    maxWidth;
+        private final int population;
+        private double    widthSum;
+        private double    widthSumSq;
+
+        Sampler(int population) {
+            this.population = population;
+        }
+
+        void add(double rowWidth, int cardinality, double rowMaxWidth) {
+            count++;
+            widthSum += rowWidth;
+            widthSumSq += rowWidth * rowWidth;
+            cardSum += cardinality;
+            cardSumSq += (double) cardinality * cardinality;
+            maxWidth = Math.max(maxWidth, rowMaxWidth);
+        }
+
+        Estimate estimate() {
+            double averageWidth = widthSum / count;
+            double averageCardinality = cardSum / count;
+            return new Estimate(population, count, averageWidth,
+                                error(widthSum, widthSumSq),
+                                averageCardinality,
+                                error(cardSum, cardSumSq), maxWidth);
+        }
+
+        private double error(double sum, double sumSq) {
+            if (count < 2) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double mean = sum / count;
+            double variance = Math.max(0.0,
+                                       (sumSq - (count * mean * mean))
+                                            / (count - 1));
+            double correction = 1.0 - ((double) count / population);
+            return Z_95 * Math.sqrt((variance / count)
+                                    * Math.max(0.0, correction));
+        }
+    }
+
+    public static final int     DEFAULT_BUDGET    = 1024;
+    public static final long    DEFAULT_SEED      = 0x5eed;
+    public static final int     DEFAULT_THRESHOLD = 10_000;
+
+    private static final double Z_95              = 1.96;
+
+    private final int           budget;
+    private final long          seed;
+    private final int           threshold;
+
+    public SamplingPolicy() {
+        this(DEFAULT_THRESHOLD, DEFAULT_BUDGET);
+    }
+
+    public SamplingPolicy(int threshold, int budget) {
+        this(threshold, budget, DEFAULT_SEED);
+    }
+
+    public SamplingPolicy(int threshold, int budget, long seed) {
+        if (budget < 2) {
+            throw new IllegalArgumentException(String.format("Sampling budget must be at least 2: %s",
+                                                             budget));
+        }
+        if (threshold < budget) {
+            throw new IllegalArgumentException(String.format("Sampling threshold: %s must not be less than the budget: %s",
+                                                             threshold,
+                                                             budget));
+        }
+        this.threshold = threshold;
+        this.budget = budget;
+        this.seed = seed;
+    }
+
+    public boolean applies(int size) {
+        return size > threshold;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Answer the indices of the stratified sample of the population, in
+     * ascending order
+     */
+    public int[] sample(int population) {
+        int size = Math.min(budget, population);
+        int[] indices = new int[size];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            int from = (int) (((long) i * population) / size);
+            int to = (int) (((long) (i + 1) * population) / size);
+            indices[i] = from + random.nextInt(to - from);
+        }
+        return indices;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SamplingPolicy [threshold: %s, budget: %s]",
+                             threshold, budget);
+    }
+}
@@ -0,0 +1,569 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import com.chiralbehaviors.layout.LayoutPlan.NodePlan;
+import com.chiralbehaviors.layout.schema.FoldView;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+import com.chiralbehaviors.layout.style.LabelMetrics;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * @author halhildebrand
+ *
+ */
+abstract public class SchemaNodeLayout {
+
+    public class Fold {
+        public final int      averageCardinality;
+        public final int      cardinality;
+        public final int      count;
+        public final JsonNode datum;
+
+        Fold(JsonNode datum, int cardinality, int count) {
+            this.datum = datum;
+            this.cardinality = cardinality;
+            this.count = count;
+            this.averageCardinality = averageCardinality(cardinality, count);
+            assert averageCardinality > 0;
+        }
+
+        public SchemaNodeLayout getLayout() {
+            return SchemaNodeLayout.this;
+        }
+    }
+
+    public enum Indent {
+        LEFT {
+            @Override
+            public Indentation indent(Indentation indentation, Indent child,
+                                      Indentation inset) {
+                switch (child) {
+                    case LEFT:
+                        return new Indentation(indentation.getLeft()
+                                                  + inset.getLeft(),
+                                               indentation.getRight());
+                    case SINGULAR:
+                        return new Indentation(indentation.getLeft()
+                                                  + inset.getLeft(),
+                                               inset.getRight());
+                    case RIGHT:
+                        return new Indentation(inset.getLeft(),
+                                               inset.getRight());
+                    default:
+                        return Indentation.NONE;
+                }
+            }
+        },
+        NONE {
+            @Override
+            public Indentation indent(Indentation indentation, Indent child,
+                                      Indentation inset) {
+                switch (child) {
+                    case LEFT:
+                        return new Indentation(inset.getLeft(), 0);
+                    case RIGHT:
+                        return new Indentation(0, inset.getRight());
+                    case SINGULAR:
+                        return inset;
+                    default:
+                        return Indentation.NONE;
+                }
+            }
+        },
+        RIGHT {
+            @Override
+            public Indentation indent(Indentation indentation, Indent child,
+                                      Indentation inset) {
+                switch (child) {
+                    case LEFT:
+                        return new Indentation(inset.getLeft(),
+                                               indentation.getRight());
+                    case RIGHT:
+                        return new Indentation(inset.getLeft(),
+                                               indentation.getRight()
+                                                  + inset.getRight());
+                    case SINGULAR:
+                        return new Indentation(inset.getLeft(),
+                                               indentation.getRight()
+                                                  + inset.getRight());
+                    default:
+                        return Indentation.NONE;
+                }
+            }
+        },
+        SINGULAR {
+            @Override
+            public Indentation indent(Indentation indentation, Indent child,
+                                      Indentation inset) {
+                switch (child) {
+                    case LEFT:
+                        return new Indentation(indentation.getLeft()
+                                                  + inset.getLeft(),
+                                               indentation.getRight());
+                    case RIGHT:
+                        return new Indentation(indentation.getLeft(),
+                                               indentation.getRight()
+                                                  + inset.getRight());
+                    case SINGULAR:
+                        return new Indentation(indentation.getLeft()
+                                                  + inset.getLeft(),
+                                               indentation.getRight()
+                                                  + inset.getRight());
+                    default:
+                        return Indentation.NONE;
+                }
+            }
+        },
+        TOP {
+            @Override
+            public Indentation indent(Indentation indentation, Indent child,
+                                      Indentation inset) {
+                switch (child) {
+                    case LEFT:
+                        return new Indentation(indentation.getLeft()
+                                                  + inset.getLeft(), 0);
+                    case RIGHT:
+                        return new Indentation(0, indentation.getRight()
+                                                     + inset.getRight());
+                    case SINGULAR:
+                        return inset;
+                    default:
+                        return Indentation.NONE;
+                }
+            }
+        };
+
+        abstract public Indentation indent(Indentation indentation,
+                                           Indent child, Indentation inset);
+    }
+
+    public static final int             DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * The cancellation of a measurement or plan that is never cancelled
+     */
+    public static final BooleanSupplier NOT_CANCELLED      = () -> false;
+
+    private static final ObjectMapper   MAPPER             = new ObjectMapper();
+
+    /**
+     * Answer the average cardinality of a fold of count items with the summed
+     * cardinality
+     */
+    public static int averageCardinality(int cardinality, int count) {
+        return (cardinality == 0 || count == 0) ? 1
+                                                : Math.round(cardinality
+                                                             / count);
+    }
+
+    /**
+     * Abandon the measurement or plan in progress if it has been cancelled
+     */
+    protected static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+    }
+
+    protected double             columnHeaderIndentation = 0.0;
+    protected double             columnWidth;
+    protected double             height                  = -1.0;
+    protected double             justifiedWidth          = -1.0;
+    protected final LabelMetrics labelStyle;
+    protected double             labelWidth;
+
+    protected final SchemaNode   node;
+
+    public SchemaNodeLayout(SchemaNode node, LabelMetrics labelStyle) {
+        this.node = node;
+        this.labelStyle = labelStyle;
+    }
+
+    public void adjustHeight(double delta) {
+        this.height = LayoutModel.snap(height + delta);
+    }
+
+    /**
+     * Merge the rows appended to the datum of the layout measured from this
+     * node by {@link #measure(JsonNode, LayoutModel)}. Answer true if the
+     * layout must be recomputed.
+     */
+    public boolean append(SchemaNodeLayout measured, JsonNode rows,
+                          LayoutModel model) {
+        Fold fold = fold(JsonNodeFactory.instance.objectNode()
+                                                 .set(getField(), rows),
+                         n -> n, model);
+        return measured.merge(fold.datum, model);
+    }
+
+    /**
+     * Answer the ascending widths of the range at which the structure of the
+     * plan of this layout changes: where a relation switches between a table
+     * and an outline, or an outline is partitioned into different column sets
+     * or columns. Each breakpoint is the least width planned with the new
+     * structure, so widths between consecutive breakpoints only differ in
+     * their justification.
+     * <p>
+     * The range is probed every step, and bisected to the width where the
+     * structure changes, so a structure planned for less than a step is not
+     * found. Probing stops at the first width planned as a table, as wider
+     * widths are tables as well. Like {@link #plan(double)}, this lays out
+     * this layout; find the breakpoints of a {@link #copy(LayoutModel) copy} of
+     * a layout that is in use.
+     */
+    public List<Double> breakpoints(double from, double to, double step) {
+        return breakpoints(from, to, step, NOT_CANCELLED);
+    }
+
+    /**
+     * Answer the breakpoints as {@link #breakpoints(double, double, double)},
+     * abandoning the search with a {@link CancellationException} once it is
+     * cancelled
+     */
+    public List<Double> breakpoints(double from, double to, double step,
+                                    BooleanSupplier cancelled) {
+        if (step < 1.0) {
+            throw new IllegalArgumentException(String.format("Step must be at least 1: %s",
+                                                             step));
+        }
+        List<Double> breakpoints = new ArrayList<>();
+        double low = LayoutModel.snap(from);
+        LayoutPlan current = plan(low, cancelled);
+        while (!current.isFinal() && low < to) {
+            double high = Math.min(LayoutModel.snap(low + step), to);
+            LayoutPlan next = plan(high, cancelled);
+            if (!next.hasStructureOf(current)) {
+                double narrow = low;
+                double wide = high;
+                while (wide - narrow > 1.0) {
+                    double mid = LayoutModel.snap((narrow + wide) / 2.0);
+                    if (mid >= wide) {
+                        break;
+                    }
+                    if (plan(mid, cancelled).hasStructureOf(current)) {
+                        narrow = mid;
+                    } else {
+                        wide = mid;
+                    }
+                }
+                breakpoints.add(wide);
+            }
+            current = next;
+            low = high;
+        }
+        return breakpoints;
+    }
+
+    public double calculateLabelWidth() {
+        return labelWidth;
+    }
+
+    abstract public double calculateTableColumnWidth();
+
+    abstract public double cellHeight(int cardinality, double available);
+
+    public double columnHeaderHeight() {
+        return LayoutModel.snap(labelStyle.getHeight());
+    }
+
+    abstract public double columnWidth();
+
+    abstract public void compress(double justified);
+
+    /**
+     * Answer a layout with the measurement of this layout that shares no state
+     * with it, so it may be {@link #plan(double) planned} on any thread while
+     * this layout is in use. The styles of the layout must be resolved.
+     */
+    public SchemaNodeLayout copy(LayoutModel model) {
+        return model.layout(getNode())
+                    .restore(snapshot(), model);
+    }
+
+    abstract public JsonNode extractFrom(JsonNode node);
+
+    public String getField() {
+        return node.getField();
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getJustifiedWidth() {
+        return LayoutModel.snap(justifiedWidth);
+    }
+
+    public String getLabel() {
+        return node.getLabel();
+    }
+
+    public LabelMetrics getLabelStyle() {
+        return labelStyle;
+    }
+
+    public double getLabelWidth() {
+        return labelWidth;
+    }
+
+    public abstract SchemaNode getNode();
+
+    abstract public double justify(double justified);
+
+    public double labelWidth(String label) {
+        return LayoutModel.snap(labelStyle.width(label));
+    }
+
+    abstract public double layout(double width);
+
+    abstract public double layoutWidth();
+
+    public double measure(JsonNode data, Function<JsonNode, JsonNode> extractor,
+                          LayoutModel model) {
+        return measure(data, extractor, model, NOT_CANCELLED);
+    }
+
+    /**
+     * Measure the data, checking the cancellation between the rows and the
+     * children measured, and abandoning the measurement with a
+     * {@link CancellationException} once it is cancelled
+     */
+    abstract public double measure(JsonNode data,
+                                   Function<JsonNode, JsonNode> extractor,
+                                   LayoutModel model,
+                                   BooleanSupplier cancelled);
+
+    public SchemaNodeLayout measure(JsonNode datum, LayoutModel model) {
+        return measure(datum, model, NOT_CANCELLED);
+    }
+
+    /**
+     * Measure the datum as {@link #measure(JsonNode, LayoutModel)}, abandoning
+     * the measurement with a {@link CancellationException} once it is cancelled
+     */
+    public SchemaNodeLayout measure(JsonNode datum, LayoutModel model,
+                                    BooleanSupplier cancelled) {
+        Fold fold = fold(JsonNodeFactory.instance.objectNode()
+                                                 .set(getField(), datum),
+                         n -> n, model);
+        fold.getLayout()
+            .measure(fold.datum, n -> n, model, cancelled);
+        return fold.getLayout();
+    }
+
+    public SchemaNodeLayout measure(JsonParser parser,
+                                    LayoutModel model) throws IOException {
+        return measure(parser, DEFAULT_BATCH_SIZE, model);
+    }
+
+    /**
+     * Measure the datum read from the parser without materializing the whole
+     * document. If the datum is an array, its rows are read in batches: the
+     * first batch is measured and each subsequent batch is merged into the
+     * measurement, so only a single batch of rows is held in memory at a time.
+     * Answer the measured layout, or null if there is no datum or the array is
+     * empty.
+     */
+    public SchemaNodeLayout measure(JsonParser parser, int batchSize,
+                                    LayoutModel model) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken()
+                                                   : parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return measure((JsonNode) MAPPER.readTree(parser), model);
+        }
+        SchemaNodeLayout measured = null;
+        ArrayNode batch = JsonNodeFactory.instance.arrayNode();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new EOFException("Unterminated JSON array");
+            }
+            batch.add((JsonNode) MAPPER.readTree(parser));
+            if (batch.size() == batchSize) {
+                measured = measure(measured, batch, model);
+                batch = JsonNodeFactory.instance.arrayNode();
+            }
+        }
+        if (batch.size() > 0) {
+            measured = measure(measured, batch, model);
+        }
+        return measured;
+    }
+
+    /**
+     * Merge the measurement of appended data into the running statistics of
+     * the measured layout. The data is folded exactly as the data given to
+     * {@link #measure(JsonNode, Function, LayoutModel)}. Answer true if the
+     * measured width or cardinality of this layout, or of any of its
+     * children, changed, and thus the layout must be recomputed.
+     */
+    abstract public boolean merge(JsonNode data, LayoutModel model);
+
+    abstract public double nestTableColumn(Indent inset,
+                                           Indentation indentation);
+
+    abstract public void normalizeRowHeight(double normalized);
+
+    /**
+     * Restore the layout measured from this node by
+     * {@link #measure(JsonNode, LayoutModel)} from its {@link #snapshot()}
+     */
+    public SchemaNodeLayout restore(JsonNode snapshot, LayoutModel model) {
+        SchemaNodeLayout layout = fold(JsonNodeFactory.instance.arrayNode(),
+                                       n -> n, model).getLayout();
+        layout.restoreFrom(snapshot, model);
+        return layout;
+    }
+
+    /**
+     * Lay out, compress and justify this layout for the width, answering the
+     * plan of the result
+     */
+    public LayoutPlan plan(double width) {
+        return plan(width, NOT_CANCELLED);
+    }
+
+    /**
+     * Plan this layout for the width as {@link #plan(double)}, abandoning the
+     * plan with a {@link CancellationException} if it is cancelled between
+     * laying out, compressing and sizing the layout
+     */
+    public LayoutPlan plan(double width, BooleanSupplier cancelled) {
+        double justified = LayoutModel.snap(width);
+        checkCancelled(cancelled);
+        layout(justified);
+        checkCancelled(cancelled);
+        compress(justified);
+        checkCancelled(cancelled);
+        calculateRootHeight();
+        return new LayoutPlan(capture(), justified);
+    }
+
+    abstract public double rowHeight(int averageCardinality,
+                                     double justifiedWidth);
+
+    /**
+     * Answer the measured statistics of this layout and its children
+     */
+    abstract public ObjectNode snapshot();
+
+    abstract public double tableColumnWidth();
+
+    abstract protected void calculateRootHeight();
+
+    /**
+     * Answer the width of the last measurement, including merges
+     */
+    abstract protected double measuredWidth();
+
+    /**
+     * Restore the state of the layout passes of this layout, and of its
+     * children, from the plan captured from this layout or a copy of it
+     */
+    protected void apply(NodePlan plan) {
+        if (!getField().equals(plan.getField())) {
+            throw new IllegalArgumentException(String.format("Plan is not of %s: %s",
+                                                             getField(),
+                                                             plan));
+        }
+        columnHeaderIndentation = plan.getColumnHeaderIndentation();
+        columnWidth = plan.getColumnWidth();
+        height = plan.getHeight();
+        justifiedWidth = plan.getJustifiedWidth();
+    }
+
+    /**
+     * Capture the state of the layout passes of this layout, and of its
+     * children
+     */
+    abstract protected NodePlan capture();
+
+    protected void clear() {
+        height = -1.0;
+        justifiedWidth = -1.0;
+        columnHeaderIndentation = 0.0;
+    }
+
+    /**
+     * Restore the measured statistics of this layout and its children from
+     * the snapshot
+     */
+    abstract protected void restoreFrom(JsonNode snapshot, LayoutModel model);
+
+    /**
+     * Answer a new snapshot of this layout's measurement
+     */
+    protected ObjectNode snapshotOf() {
+        ObjectNode snapshot = JsonNodeFactory.instance.objectNode();
+        snapshot.put("field", getField());
+        return snapshot;
+    }
+
+    protected void validate(JsonNode snapshot) {
+        if (snapshot == null || !getField().equals(snapshot.path("field")
+                                                           .asText())) {
+            throw new IllegalArgumentException(String.format("Snapshot is not of %s: %s",
+                                                             getField(),
+                                                             snapshot));
+        }
+    }
+
+    /**
+     * Fold the values of this layout's field of the rows of the datum into a
+     * view, whose size is the summed cardinality of the values
+     */
+    protected Fold fold(JsonNode datum) {
+        ArrayNode aggregate = FoldView.fold(datum, getField());
+        return new Fold(aggregate, aggregate.size(),
+                        datum.isArray() ? datum.size() : 1);
+    }
+
+    protected Fold fold(JsonNode datum, Function<JsonNode, JsonNode> extractor,
+                        LayoutModel model) {
+        return fold(datum);
+    }
+
+    public double getColumnHeaderIndentation() {
+        return columnHeaderIndentation;
+    }
+
+    private SchemaNodeLayout measure(SchemaNodeLayout measured, ArrayNode batch,
+                                     LayoutModel model) {
+        if (measured == null) {
+            return measure(batch, model);
+        }
+        append(measured, batch, model);
+        return measured;
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+/**
+ * A compiled extractor of the values of a field, through the fields of the
+ * relations folded above it. Each field of the path is flattened out of the
+ * values of the previous one, as {@link SchemaNode#extractField(JsonNode,
+ * String)} would, but the extracted value of a single row is answered as is
+ * rather than copied into a new array: a missing value is the shared empty
+ * array, and a row's value is answered itself. Values of many rows are
+ * answered as a {@link FoldView}. The answered arrays are read only.
+ *
+ * @author halhildebrand
+ *
+ */
+public final class FieldPath implements Function<JsonNode, JsonNode> {
+    public static final FieldPath  IDENTITY = new FieldPath(null,
+                                                            new String[0]);
+
+    private static final ArrayNode EMPTY    = new ArrayNode(JsonNodeFactory.instance,
+                                                            Collections.emptyList());
+    private static final ArrayNode NULL     = new ArrayNode(JsonNodeFactory.instance,
+                                                            Collections.singletonList(NullNode.getInstance()));
+
+    /**
+     * Answer the path of the extractor, which is the extractor itself if it is
+     * a path, and otherwise a path that applies the extractor before its
+     * fields
+     */
+    public static FieldPath of(Function<JsonNode, JsonNode> extractor) {
+        return extractor instanceof FieldPath ? (FieldPath) extractor
+                                              : new FieldPath(extractor,
+                                                              new String[0]);
+    }
+
+    /**
+     * Answer the path of the field
+     */
+    public static FieldPath of(String field) {
+        return IDENTITY.then(field);
+    }
+
+    private final String[]                     fields;
+    private final Function<JsonNode, JsonNode> head;
+
+    private FieldPath(Function<JsonNode, JsonNode> head, String[] fields) {
+        this.head = head;
+        this.fields = fields;
+    }
+
+    @Override
+    public JsonNode apply(JsonNode datum) {
+        JsonNode current = head == null ? datum : head.apply(datum);
+        for (String field : fields) {
+            if (current == null) {
+                return EMPTY;
+            }
+            current = current.isArray() ? FoldView.flatten(current, field)
+                                        : current.get(field);
+        }
+        if (fields.length == 0) {
+            return current;
+        }
+        if (current == null) {
+            return EMPTY;
+        }
+        return current.isNull() ? NULL : current;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FieldPath %s", Arrays.asList(fields));
+    }
+
+    /**
+     * Answer the path that extracts the field from the values of this path
+     */
+    public FieldPath then(String field) {
+        String[] extended = Arrays.copyOf(fields, fields.length + 1);
+        extended[fields.length] = field;
+        return new FieldPath(head, extended);
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.schema;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+/**
+ * A read only view of the values of a field of the rows of an array, with the
+ * elements of array values spliced in place. The view only holds the values of
+ * the rows, rather than a copy of every element of the values, and is wrapped
+ * as an {@link ArrayNode} so that folded data may be consumed, and folded
+ * again, as any other array.
+ *
+ * @author halhildebrand
+ *
+ */
+public final class FoldView extends AbstractList<JsonNode> implements
+                             RandomAccess {
+
+    /**
+     * Answer the view of the values of the field of the rows of the data, in
+     * which a row missing the field has a null value
+     */
+    public static ArrayNode fold(JsonNode data, String field) {
+        return view(data, field, true);
+    }
+
+    /**
+     * Answer the view of the values of the field of the rows of the data, in
+     * which a row missing the field has no value
+     */
+    public static ArrayNode flatten(JsonNode data, String field) {
+        return view(data, field, false);
+    }
+
+    private static ArrayNode view(JsonNode data, String field,
+                                  boolean missing) {
+        List<JsonNode> values = new ArrayList<>();
+        if (data != null) {
+            Iterable<JsonNode> rows = data.isArray() ? data
+                                                     : Collections.singletonList(data);
+            for (JsonNode row : rows) {
+                JsonNode value = row.get(field);
+                if (value != null) {
+                    values.add(value);
+                } else if (missing) {
+                    values.add(NullNode.getInstance());
+                }
+            }
+        }
+        return new ArrayNode(JsonNodeFactory.instance, new FoldView(values));
+    }
+
+    private final int[]          ends;
+    private final List<JsonNode> values;
+
+    private FoldView(List<JsonNode> values) {
+        this.values = values;
+        ends = new int[values.size()];
+        int end = 0;
+        for (int i = 0; i < ends.length; i++) {
+            JsonNode value = values.get(i);
+            end += value.isArray() ? value.size() : 1;
+            ends[i] = end;
+        }
+    }
+
+    @Override
+    public JsonNode get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("%s of %s",
+                                                              index, size()));
+        }
+        int low = 0;
+        int high = ends.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        JsonNode value = values.get(low);
+        if (!value.isArray()) {
+            return value;
+        }
+        int start = low == 0 ? 0 : ends[low - 1];
+        return value.get(index - start);
+    }
+
+    @Override
+    public Iterator<JsonNode> iterator() {
+        return new Iterator<JsonNode>() {
+            private Iterator<JsonNode> elements = Collections.emptyIterator();
+            private int                next     = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (!elements.hasNext()) {
+                    if (next == values.size()) {
+                        return false;
+                    }
+                    JsonNode value = values.get(next++);
+                    elements = value.isArray() ? value.elements()
+                                               : Collections.singletonList(value)
+                                                            .iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elements.next();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * @author hhildebrand
@@ -29,6 +30,7 @@ public class Relation extends SchemaNode {
     private boolean                autoFold = true;
     private final List<SchemaNode> children = new ArrayList<>();
     private Relation               fold;
+    private String                 key;
 
     public Relation(String label) {
         super(label);
@@ -66,6 +68,22 @@ public class Relation extends SchemaNode {
         return fold;
     }
 
+    /**
+     * Answer the field whose value identifies a row of this relation, or null
+     * if the rows have no identity
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Answer the identity of the row, which is the value of its key field, or
+     * null if this relation has no key or the row has no value of it
+     */
+    public JsonNode identityOf(JsonNode row) {
+        return key == null || row == null ? null : row.get(key);
+    }
+
     @JsonProperty
     public boolean isFold() {
         return fold != null;
@@ -82,6 +100,14 @@ public class Relation extends SchemaNode {
                                                                             : null;
     }
 
+    /**
+     * Set the field whose value identifies a row of this relation, so that the
+     * rows of successive data may be matched by identity
+     */
+    public void setKey(String key) {
+        this.key = key;
+    }
+
     @Override
     public String toString() {
         return toString(0);
@@ -93,18 +93,7 @@ abstract public class SchemaNode {
             array.add(resolved);
             return array;
         }
-        ArrayNode extracted = JsonNodeFactory.instance.arrayNode();
-        node.forEach(element -> {
-            JsonNode resolved = element.get(field);
-            if (resolved != null) {
-                if (resolved.isArray()) {
-                    extracted.addAll((ArrayNode) resolved);
-                } else {
-                    extracted.add(resolved);
-                }
-            }
-        });
-        return extracted;
+        return FoldView.flatten(node, field);
     }
 
     public static List<JsonNode> extractList(JsonNode jsonNode, String field) {
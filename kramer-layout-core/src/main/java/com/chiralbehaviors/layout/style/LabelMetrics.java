@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout.style;
+
+/**
+ * The metrics of a label: the width of its text and the height of a line,
+ * both including the insets of the label
+ *
+ * @author halhildebrand
+ *
+ */
+public interface LabelMetrics extends TextMetrics {
+
+    /**
+     * Answer the height of a single line label
+     */
+    double getHeight();
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout.style;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The metrics of the values of a primitive, and of its label, that a primitive
+ * layout is measured and planned by
+ *
+ * @author halhildebrand
+ *
+ */
+public interface PrimitiveMetrics {
+
+    /**
+     * Answer the height of a value of the maximum width, wrapped to the
+     * justified width
+     */
+    double getHeight(double maxWidth, double justified);
+
+    LabelMetrics getLabelStyle();
+
+    double getListVerticalInset();
+
+    /**
+     * Answer the width of the value
+     */
+    double width(JsonNode value);
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout.style;
+
+import com.chiralbehaviors.layout.Indentation;
+
+/**
+ * The insets of the tables and outlines of a relation, and the metrics of its
+ * label, that a relation layout is measured and planned by
+ *
+ * @author halhildebrand
+ *
+ */
+public interface RelationInsets {
+
+    double getColumnHorizontalInset();
+
+    double getColumnVerticalInset();
+
+    double getElementHorizontalInset();
+
+    double getElementVerticalInset();
+
+    LabelMetrics getLabelStyle();
+
+    double getNestedHorizontalInset();
+
+    /**
+     * Answer the horizontal insets of a nested row and its cell
+     */
+    Indentation getNestedIndentation();
+
+    double getOutlineCellHorizontalInset();
+
+    double getOutlineCellVerticalInset();
+
+    double getOutlineHorizontalInset();
+
+    double getOutlineVerticalInset();
+
+    double getRowCellHorizontalInset();
+
+    double getRowCellVerticalInset();
+
+    double getRowHorizontalInset();
+
+    double getRowVerticalInset();
+
+    double getSpanHorizontalInset();
+
+    double getSpanVerticalInset();
+
+    double getTableVerticalInset();
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestKeyedDiff {
+    private static final Function<String, String> KEY = s -> s.indexOf(':') < 0 ? null
+                                                                                 : s.substring(0,
+                                                                                               s.indexOf(':'));
+
+    @Test
+    public void testChanged() {
+        List<String> items = list("a:1", "b:1", "c:1");
+        assertEquals(1, KeyedDiff.apply(items, list("a:1", "b:2", "c:1"),
+                                        KEY));
+        assertEquals(list("a:1", "b:2", "c:1"), items);
+    }
+
+    @Test
+    public void testInsertedAndRemoved() {
+        List<String> items = list("a:1", "b:1", "c:1");
+        assertEquals(2, KeyedDiff.apply(items, list("a:1", "x:1", "c:1"),
+                                        KEY));
+        assertEquals(list("a:1", "x:1", "c:1"), items);
+        assertEquals(2, KeyedDiff.apply(items,
+                                        list("a:1", "x:1", "c:1", "d:1", "e:1"),
+                                        KEY));
+        assertEquals(3, KeyedDiff.apply(items, list("a:1", "x:1"), KEY));
+        assertEquals(list("a:1", "x:1"), items);
+    }
+
+    @Test
+    public void testMoved() {
+        List<String> items = list("a:1", "b:1", "c:1", "d:1");
+        KeyedDiff.apply(items, list("d:1", "a:1", "b:1", "c:1"), KEY);
+        assertEquals(list("d:1", "a:1", "b:1", "c:1"), items);
+        KeyedDiff.apply(items, list("b:1", "d:1", "c:1"), KEY);
+        assertEquals(list("b:1", "d:1", "c:1"), items);
+    }
+
+    @Test
+    public void testReversed() {
+        List<String> items = list("a:1", "b:1", "c:1", "d:1");
+        assertEquals(6, KeyedDiff.apply(items, list("d:1", "c:1", "b:1", "a:1"),
+                                        KEY));
+        assertEquals(list("d:1", "c:1", "b:1", "a:1"), items);
+    }
+
+    @Test
+    public void testUnchanged() {
+        List<String> items = list("a:1", "b:1", "c:1");
+        assertEquals(0, KeyedDiff.apply(items, list("a:1", "b:1", "c:1"),
+                                        KEY));
+    }
+
+    @Test
+    public void testUnkeyed() {
+        List<String> items = list("a", "b:1", "c");
+        KeyedDiff.apply(items, list("x", "b:1", "y", "z"), KEY);
+        assertEquals(list("x", "b:1", "y", "z"), items);
+        KeyedDiff.apply(items, list("b:1"), KEY);
+        assertEquals(list("b:1"), items);
+    }
+
+    private List<String> list(String... items) {
+        return new ArrayList<>(Arrays.asList(items));
+    }
+}
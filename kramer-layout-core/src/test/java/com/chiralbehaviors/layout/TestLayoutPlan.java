@@ -0,0 +1,345 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.chiralbehaviors.layout.LayoutPlan.RelationPlan;
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.schema.Relation;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+import com.chiralbehaviors.layout.style.LabelMetrics;
+import com.chiralbehaviors.layout.style.PrimitiveMetrics;
+import com.chiralbehaviors.layout.style.RelationInsets;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Measures and plans a schema without JavaFX, by the metrics of a fixed width
+ * font with no insets
+ *
+ * @author halhildebrand
+ *
+ */
+public class TestLayoutPlan {
+
+    private static class FixedLabel implements LabelMetrics {
+        @Override
+        public double getHeight() {
+            return LINE;
+        }
+
+        @Override
+        public double width(String text) {
+            return text == null ? 0 : CHAR * text.length();
+        }
+    }
+
+    private static class FixedModel implements LayoutModel {
+        @Override
+        public ForkJoinPool getMeasurePool() {
+            return null;
+        }
+
+        @Override
+        public SamplingPolicy getSamplingPolicy() {
+            return null;
+        }
+
+        @Override
+        public PrimitiveLayout layout(Primitive p) {
+            return new PrimitiveLayout(p, new FixedPrimitive());
+        }
+
+        @Override
+        public RelationLayout layout(Relation r) {
+            return new RelationLayout(r, new NoInsets());
+        }
+    }
+
+    private static class FixedPrimitive implements PrimitiveMetrics {
+        private final FixedLabel label = new FixedLabel();
+
+        @Override
+        public double getHeight(double maxWidth, double justified) {
+            return LINE * Math.ceil(maxWidth / justified);
+        }
+
+        @Override
+        public LabelMetrics getLabelStyle() {
+            return label;
+        }
+
+        @Override
+        public double getListVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double width(JsonNode value) {
+            return label.width(SchemaNode.asText(value));
+        }
+    }
+
+    private static class NoInsets implements RelationInsets {
+        private final FixedLabel label = new FixedLabel();
+
+        @Override
+        public double getColumnHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getColumnVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getElementHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getElementVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public LabelMetrics getLabelStyle() {
+            return label;
+        }
+
+        @Override
+        public double getNestedHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public Indentation getNestedIndentation() {
+            return Indentation.NONE;
+        }
+
+        @Override
+        public double getOutlineCellHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getOutlineCellVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getOutlineHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getOutlineVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getRowCellHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getRowCellVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getRowHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getRowVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getSpanHorizontalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getSpanVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double getTableVerticalInset() {
+            return 0;
+        }
+    }
+
+    private static final double CHAR = 7;
+    private static final double LINE = 16;
+
+    /**
+     * The table of the rows is as wide as its columns: the width of the names,
+     * 8 characters, and of the descriptions, 40 characters. Narrower widths
+     * are planned as an outline.
+     */
+    @Test
+    public void testBreakpoints() {
+        SchemaNodeLayout layout = measure();
+        assertEquals(Collections.singletonList(48 * CHAR),
+                     layout.breakpoints(100, 1000, 10));
+    }
+
+    @Test
+    public void testCopy() {
+        FixedModel model = new FixedModel();
+        SchemaNodeLayout layout = measure();
+        LayoutPlan plan = layout.plan(200);
+        LayoutPlan copied = layout.copy(model)
+                                  .plan(200);
+        assertTrue(copied.hasStructureOf(plan));
+        assertEquals(plan.getRoot()
+                         .getHeight(),
+                     copied.getRoot()
+                           .getHeight(),
+                     0.0);
+    }
+
+    @Test
+    public void testMeasure() {
+        SchemaNodeLayout layout = measure();
+        assertEquals("rows", layout.getField());
+        assertEquals(11 * CHAR, layout.getLabelWidth(), 0.0);
+        RelationLayout relation = (RelationLayout) layout;
+        assertEquals(8 * CHAR, relation.getChildren()
+                                       .get(0)
+                                       .columnWidth(),
+                     0.0);
+        assertEquals(40 * CHAR, relation.getChildren()
+                                        .get(1)
+                                        .columnWidth(),
+                     0.0);
+    }
+
+    /**
+     * Merging appended rows folds them through the layouts of the children,
+     * flattening the rows of an auto folded child into its folded relation
+     */
+    @Test
+    public void testMerge() {
+        Relation schema = new Relation("rows");
+        schema.addChild(new Primitive("name"));
+        Relation owner = new Relation("owner");
+        Relation items = new Relation("items");
+        items.addChild(new Primitive("label"));
+        owner.addChild(items);
+        schema.addChild(owner);
+
+        FixedModel model = new FixedModel();
+        RelationLayout merged = (RelationLayout) model.layout(schema)
+                                                      .measure(rows("a", 4),
+                                                               model);
+        assertTrue(merged.merge(rows("bb", 12), model));
+
+        ArrayNode all = rows("a", 4);
+        all.addAll(rows("bb", 12));
+        RelationLayout measured = (RelationLayout) model.layout(schema)
+                                                        .measure(all, model);
+        for (int i = 0; i < 2; i++) {
+            SchemaNodeLayout child = merged.getChildren()
+                                           .get(i);
+            assertEquals(measured.getChildren()
+                                 .get(i)
+                                 .getNode(),
+                         child.getNode());
+            assertEquals(measured.getChildren()
+                                 .get(i)
+                                 .columnWidth(),
+                         child.columnWidth(), 0.0);
+        }
+        assertEquals(items, merged.getChildren()
+                                  .get(1)
+                                  .getNode());
+        // the average of the widths of the labels of both batches
+        assertEquals(8 * CHAR, ((RelationLayout) merged.getChildren()
+                                                       .get(1)).getChildren()
+                                                               .get(0)
+                                                               .columnWidth(),
+                     0.0);
+    }
+
+    @Test
+    public void testPlan() {
+        SchemaNodeLayout layout = measure();
+
+        RelationPlan outline = (RelationPlan) layout.plan(200)
+                                                    .getRoot();
+        assertFalse(outline.isUseTable());
+        assertEquals(2, outline.getColumnSets()
+                               .size());
+
+        RelationPlan table = (RelationPlan) layout.plan(800)
+                                                  .getRoot();
+        assertTrue(table.isUseTable());
+        assertEquals(LINE, table.getColumnHeaderHeight(), 0.0);
+        assertEquals(LINE, table.getCellHeight(), 0.0);
+        assertEquals(800, table.getJustifiedWidth(), 0.0);
+    }
+
+    private SchemaNodeLayout measure() {
+        Relation schema = new Relation("rows");
+        schema.addChild(new Primitive("name"));
+        schema.addChild(new Primitive("description"));
+        ArrayNode data = JsonNodeFactory.instance.arrayNode();
+        for (String id : new String[] { "a", "b", "c" }) {
+            data.addObject()
+                .put("name", "row    " + id)
+                .put("description", String.format("%-40s", "about " + id));
+        }
+        FixedModel model = new FixedModel();
+        return model.layout(schema)
+                    .measure(data, model);
+    }
+
+    /**
+     * Answer rows named by the prefix, each owning items labeled by labels of
+     * the length
+     */
+    private ArrayNode rows(String prefix, int length) {
+        ArrayNode rows = JsonNodeFactory.instance.arrayNode();
+        for (int i = 0; i < 2; i++) {
+            ObjectNode row = rows.addObject()
+                                 .put("name", prefix + i);
+            ArrayNode items = row.putObject("owner")
+                                 .putArray("items");
+            for (int j = 0; j < 3; j++) {
+                items.addObject()
+                     .put("label", String.format("%-" + length + "s",
+                                                 prefix + j));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.schema.Relation;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestMeasurementStore {
+
+    @Test
+    public void testKeyOfStyleSheetContents() throws Exception {
+        Relation schema = new Relation("rows");
+        schema.addChild(new Primitive("name"));
+        Path sheet = Files.createTempFile("measurement", ".css");
+        try {
+            List<String> sheets = Collections.singletonList(sheet.toUri()
+                                                                 .toURL()
+                                                                 .toExternalForm());
+            Files.write(sheet, ".name { -fx-font-size: 12; }".getBytes(StandardCharsets.UTF_8));
+            String key = MeasurementStore.key(schema, sheets);
+            assertEquals(key, MeasurementStore.key(schema, sheets));
+
+            Files.write(sheet, ".name { -fx-font-size: 18; }".getBytes(StandardCharsets.UTF_8));
+            assertNotEquals(key, MeasurementStore.key(schema, sheets));
+            assertNotEquals(MeasurementStore.key(schema, sheets, "System 13"),
+                            MeasurementStore.key(schema, sheets, "System 16"));
+        } finally {
+            Files.deleteIfExists(sheet);
+        }
+    }
+}
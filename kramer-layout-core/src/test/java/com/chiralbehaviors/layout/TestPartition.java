@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestPartition {
+
+    @Test
+    public void testBalanced() {
+        assertArrayEquals(new int[] { 2, 4 },
+                          Partition.balance(new double[] { 10, 10, 10, 10 },
+                                              2));
+        assertArrayEquals(new int[] { 2, 3, 5 },
+                          Partition.balance(new double[] { 20, 20, 40, 20,
+                                                             20 },
+                                              3));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertArrayEquals(new int[] { 0 },
+                          Partition.balance(new double[] {}, 2));
+    }
+
+    @Test
+    public void testMinimizesTallestColumn() {
+        assertArrayEquals(new int[] { 1, 5 },
+                          Partition.balance(new double[] { 50, 10, 10, 10,
+                                                             10 },
+                                              2));
+        assertArrayEquals(new int[] { 4, 5 },
+                          Partition.balance(new double[] { 10, 10, 10, 10,
+                                                             50 },
+                                              2));
+    }
+
+    @Test
+    public void testPrefersLeftmostColumns() {
+        assertArrayEquals(new int[] { 2, 3 },
+                          Partition.balance(new double[] { 10, 10, 10 },
+                                              2));
+    }
+
+    @Test
+    public void testSingleColumn() {
+        assertArrayEquals(new int[] { 3 },
+                          Partition.balance(new double[] { 10, 20, 30 }, 1));
+    }
+
+    @Test
+    public void testMoreColumnsThanFields() {
+        assertArrayEquals(new int[] { 1, 2 },
+                          Partition.balance(new double[] { 10, 20 }, 4));
+    }
+}
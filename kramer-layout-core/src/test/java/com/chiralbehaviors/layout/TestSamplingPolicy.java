@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout;
+
+import static com.chiralbehaviors.layout.SchemaNodeLayout.NOT_CANCELLED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.chiralbehaviors.layout.SamplingPolicy.Estimate;
+import com.chiralbehaviors.layout.SamplingPolicy.Sampler;
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.schema.Relation;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+import com.chiralbehaviors.layout.style.LabelMetrics;
+import com.chiralbehaviors.layout.style.PrimitiveMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Samples primitive columns by the metrics of a fixed width font, comparing
+ * the estimates with full measurements of synthetic data
+ *
+ * @author halhildebrand
+ *
+ */
+public class TestSamplingPolicy {
+
+    private static class FixedLabel implements LabelMetrics {
+        @Override
+        public double getHeight() {
+            return LINE;
+        }
+
+        @Override
+        public double width(String text) {
+            return text == null ? 0 : CHAR * text.length();
+        }
+    }
+
+    private static class FixedPrimitive implements PrimitiveMetrics {
+        private final FixedLabel label = new FixedLabel();
+
+        @Override
+        public double getHeight(double maxWidth, double justified) {
+            return LINE * Math.ceil(maxWidth / justified);
+        }
+
+        @Override
+        public LabelMetrics getLabelStyle() {
+            return label;
+        }
+
+        @Override
+        public double getListVerticalInset() {
+            return 0;
+        }
+
+        @Override
+        public double width(JsonNode value) {
+            return label.width(SchemaNode.asText(value));
+        }
+    }
+
+    private static class SampledModel implements LayoutModel {
+        private final SamplingPolicy sampling;
+
+        private SampledModel(SamplingPolicy sampling) {
+            this.sampling = sampling;
+        }
+
+        @Override
+        public ForkJoinPool getMeasurePool() {
+            return null;
+        }
+
+        @Override
+        public SamplingPolicy getSamplingPolicy() {
+            return sampling;
+        }
+
+        @Override
+        public PrimitiveLayout layout(Primitive p) {
+            return new PrimitiveLayout(p, new FixedPrimitive());
+        }
+
+        @Override
+        public RelationLayout layout(Relation r) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final double CHAR = 7;
+    private static final double LINE = 16;
+    private static final int    ROWS = 20_000;
+
+    /**
+     * The sampled cardinality is the estimated average times the population,
+     * truncated to an int, so the average cardinality truncates as that of a
+     * full measurement does
+     */
+    @Test
+    public void testCardinality() {
+        SamplingPolicy sampling = new SamplingPolicy(10_000, 1024);
+        for (int[] cardinalities : new int[][] { { 3 }, { 2, 3 },
+                                                 { 1, 2, 2, 4 } }) {
+            ArrayNode data = JsonNodeFactory.instance.arrayNode();
+            for (int i = 0; i < ROWS; i++) {
+                ArrayNode row = data.addArray();
+                int cardinality = cardinalities[i % cardinalities.length];
+                for (int j = 0; j < cardinality; j++) {
+                    row.add("value" + j);
+                }
+            }
+            PrimitiveLayout sampled = measure(data, sampling);
+            PrimitiveLayout full = measure(data, null);
+            Estimate estimate = sampled.getEstimate();
+            assertNotNull(estimate);
+            assertEquals((int) estimate.averageCardinality,
+                         sampled.getAverageCardinality());
+            assertEquals(full.getAverageCardinality(),
+                         sampled.getAverageCardinality());
+        }
+    }
+
+    @Test
+    public void testEstimate() {
+        Sampler sampler = new Sampler(10);
+        for (int i = 1; i <= 5; i++) {
+            sampler.add(i, 2, 2 * i);
+        }
+        Estimate estimate = sampler.estimate();
+        assertEquals(10, estimate.population);
+        assertEquals(5, estimate.sampleSize);
+        assertEquals(3.0, estimate.averageWidth, 0.0);
+        // 1.96 * sqrt(variance 2.5 / 5 * finite correction (1 - 5 / 10))
+        assertEquals(0.98, estimate.averageWidthError, 1e-9);
+        assertEquals(2.0, estimate.averageCardinality, 0.0);
+        assertEquals(0.0, estimate.averageCardinalityError, 0.0);
+        assertEquals(10.0, estimate.maxWidth, 0.0);
+        assertTrue(estimate.isWithin(0.33));
+        assertFalse(estimate.isWithin(0.3));
+
+        Sampler single = new Sampler(10);
+        single.add(3, 1, 3);
+        assertEquals(Double.POSITIVE_INFINITY,
+                     single.estimate().averageWidthError, 0.0);
+
+        Sampler everyRow = new Sampler(5);
+        for (int i = 1; i <= 5; i++) {
+            everyRow.add(i, 1, i);
+        }
+        assertEquals(0.0, everyRow.estimate().averageWidthError, 0.0);
+    }
+
+    @Test
+    public void testSample() {
+        SamplingPolicy sampling = new SamplingPolicy(10_000, 100);
+        int[] indices = sampling.sample(ROWS);
+        assertEquals(100, indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            assertTrue(indices[i] >= i * ROWS / indices.length);
+            assertTrue(indices[i] < (i + 1) * ROWS / indices.length);
+        }
+        assertArrayEquals(indices, sampling.sample(ROWS));
+
+        int[] all = sampling.sample(50);
+        assertEquals(50, all.length);
+        for (int i = 0; i < all.length; i++) {
+            assertEquals(i, all[i]);
+        }
+    }
+
+    @Test
+    public void testSampledMeasure() {
+        ArrayNode data = JsonNodeFactory.instance.arrayNode();
+        double summed = 0;
+        for (int i = 0; i < ROWS; i++) {
+            int length = 1 + (int) ((i * 7919L) % 40);
+            data.add(String.format("%" + length + "s", i % 10));
+            summed += CHAR * length;
+        }
+        double average = summed / ROWS;
+
+        PrimitiveLayout sampled = measure(data, new SamplingPolicy());
+        assertTrue(sampled.isSampled());
+        Estimate estimate = sampled.getEstimate();
+        assertEquals(ROWS, estimate.population);
+        assertEquals(SamplingPolicy.DEFAULT_BUDGET, estimate.sampleSize);
+        assertEquals(average, estimate.averageWidth,
+                     estimate.averageWidthError);
+        assertTrue(estimate.maxWidth <= 40 * CHAR);
+        assertEquals(1.0, estimate.averageCardinality, 0.0);
+
+        PrimitiveLayout full = measure(data, null);
+        assertFalse(full.isSampled());
+        assertEquals(LayoutModel.snap(average), full.columnWidth(), 0.0);
+        assertEquals(full.columnWidth(), sampled.columnWidth(),
+                     Math.ceil(estimate.averageWidthError));
+    }
+
+    @Test
+    public void testThreshold() {
+        SamplingPolicy sampling = new SamplingPolicy(ROWS, 1024);
+        assertFalse(sampling.applies(ROWS));
+        assertTrue(sampling.applies(ROWS + 1));
+
+        ArrayNode data = JsonNodeFactory.instance.arrayNode();
+        for (int i = 0; i < ROWS; i++) {
+            data.add(Integer.toString(i));
+        }
+        PrimitiveLayout layout = measure(data, sampling);
+        assertFalse(layout.isSampled());
+        assertNull(layout.getEstimate());
+        assertEquals(measure(data, null).columnWidth(), layout.columnWidth(),
+                     0.0);
+
+        data.add("0");
+        assertTrue(measure(data, sampling).isSampled());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThresholdBelowBudget() {
+        new SamplingPolicy(100, 1024);
+    }
+
+    private PrimitiveLayout measure(JsonNode data, SamplingPolicy sampling) {
+        SampledModel model = new SampledModel(sampling);
+        PrimitiveLayout layout = model.layout(new Primitive("value"));
+        layout.measure(data, n -> n, model, NOT_CANCELLED);
+        return layout;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestFieldPath {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testField() throws Exception {
+        JsonNode row = MAPPER.readTree("{\"a\": 1, \"b\": [2, 3], \"c\": null}");
+        FieldPath a = FieldPath.of("a");
+        assertSame(row.get("a"), a.apply(row));
+        assertSame(row.get("b"), FieldPath.of("b")
+                                          .apply(row));
+        assertEquals(SchemaNode.extractField(row, "c"), FieldPath.of("c")
+                                                                 .apply(row));
+        assertEquals(0, FieldPath.of("d")
+                                 .apply(row)
+                                 .size());
+        JsonNode rows = MAPPER.readTree("[{\"a\": 1}, {\"b\": 2}, {\"a\": [3, 4]}]");
+        assertEquals(SchemaNode.extractField(rows, "a"), a.apply(rows));
+    }
+
+    @Test
+    public void testFolded() throws Exception {
+        JsonNode row = MAPPER.readTree("{\"p\": [{\"f\": [1, 2]}, {\"f\": 3}, {\"g\": 4}]}");
+        FieldPath path = FieldPath.of("p")
+                                  .then("f");
+        assertEquals(MAPPER.readTree("[1, 2, 3]"), path.apply(row));
+        assertEquals(MAPPER.readTree("[5]"),
+                     path.apply(MAPPER.readTree("{\"p\": {\"f\": [5]}}")));
+        assertEquals(0, path.apply(MAPPER.readTree("{\"q\": 1}"))
+                            .size());
+        assertEquals(MAPPER.readTree("[1, 2, 3]"),
+                     FieldPath.of(n -> n.get("r"))
+                              .then("p")
+                              .then("f")
+                              .apply(MAPPER.readTree("{\"r\": [{\"p\": {\"f\": [1, 2]}}, {\"p\": {\"f\": 3}}]}")));
+    }
+}
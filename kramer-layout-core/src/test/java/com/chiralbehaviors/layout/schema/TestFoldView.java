@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestFoldView {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testFlatten() throws Exception {
+        JsonNode data = MAPPER.readTree("[{\"a\": [1, 2]}, {\"b\": 3}, {\"a\": 4}, {\"a\": []}, {\"a\": [5]}]");
+        ArrayNode flattened = FoldView.flatten(data, "a");
+        assertEquals(MAPPER.readTree("[1, 2, 4, 5]"), flattened);
+        assertEquals(SchemaNode.extractField(data, "a"), flattened);
+    }
+
+    @Test
+    public void testFold() throws Exception {
+        JsonNode data = MAPPER.readTree("[{\"a\": [1, 2]}, {\"b\": 3}, {\"a\": 4}, {\"a\": []}, {\"a\": [5]}]");
+        ArrayNode folded = FoldView.fold(data, "a");
+        assertEquals(5, folded.size());
+        assertEquals(1, folded.get(0)
+                              .asInt());
+        assertEquals(2, folded.get(1)
+                              .asInt());
+        assertTrue(folded.get(2)
+                         .isNull());
+        assertEquals(4, folded.get(3)
+                              .asInt());
+        assertEquals(5, folded.get(4)
+                              .asInt());
+        List<JsonNode> iterated = new ArrayList<>();
+        folded.forEach(n -> iterated.add(n));
+        assertEquals(5, iterated.size());
+        for (int i = 0; i < iterated.size(); i++) {
+            assertEquals(folded.get(i), iterated.get(i));
+        }
+    }
+
+    @Test
+    public void testFoldOfFold() throws Exception {
+        JsonNode data = MAPPER.readTree("[{\"a\": [{\"b\": [1, 2]}, {\"b\": 3}]}, {\"a\": {\"b\": [4]}}]");
+        ArrayNode folded = FoldView.fold(FoldView.fold(data, "a"), "b");
+        assertEquals(MAPPER.readTree("[1, 2, 3, 4]"), folded);
+    }
+
+    @Test
+    public void testSingleRow() throws Exception {
+        assertEquals(MAPPER.readTree("[1, 2]"),
+                     FoldView.fold(MAPPER.readTree("{\"a\": [1, 2]}"), "a"));
+        assertEquals(0, FoldView.flatten(null, "a")
+                                .size());
+    }
+}
@@ -90,8 +90,10 @@ public interface GraphQlUtil {
             if (selection instanceof Field) {
                 Field field = (Field) selection;
                 if (field.getSelectionSet() == null) {
-                    if (!field.getName()
-                              .equals("id")) {
+                    if (field.getName()
+                             .equals("id")) {
+                        parent.setKey(field.getName());
+                    } else {
                         parent.addChild(new Primitive(field.getName()));
                     }
                 } else {
@@ -112,8 +114,10 @@ public interface GraphQlUtil {
             if (selection instanceof Field) {
                 Field field = (Field) selection;
                 if (field.getSelectionSet() == null) {
-                    if (!field.getName()
-                              .equals("id")) {
+                    if (field.getName()
+                             .equals("id")) {
+                        parent.setKey(field.getName());
+                    } else {
                         parent.addChild(new Primitive(field.getName()));
                     }
                 } else {
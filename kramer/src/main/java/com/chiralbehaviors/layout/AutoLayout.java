@@ -17,6 +17,14 @@
 package com.chiralbehaviors.layout;
 
 import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,34 +34,81 @@ import com.chiralbehaviors.layout.schema.Relation;
 import com.chiralbehaviors.layout.schema.SchemaNode;
 import com.chiralbehaviors.layout.style.Style;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+import javafx.util.Duration;
 
 /**
  * @author hhildebrand
  *
  */
 public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
+    /**
+     * A layout measured off the FX thread, and its plan for the width at the
+     * time of the measurement
+     */
+    private static class Measurement {
+        private final SchemaNodeLayout layout;
+        private final LayoutPlan       plan;
+        private final double           width;
+
+        private Measurement(SchemaNodeLayout layout, LayoutPlan plan,
+                            double width) {
+            this.layout = layout;
+            this.plan = plan;
+            this.width = width;
+        }
+    }
+
+    public static final int                        DEFAULT_PLAN_CACHE_SIZE = 32;
+    public static final Duration                   DEFAULT_SETTLE_DELAY    = Duration.millis(150);
+
     /**
      * 
      */
-    private static final String                    AUTO_LAYOUT = "auto-layout";
-    private static final String                    DEFAULT_CSS = "default.css";
-    private static final java.util.logging.Logger  log         = Logger.getLogger(AutoLayout.class.getCanonicalName());
-    private static final String                    STYLE_SHEET = "auto-layout.css";
+    private static final String                    AUTO_LAYOUT             = "auto-layout";
+    private static final double                    BREAKPOINT_STEP         = 8.0;
+    private static final String                    DEFAULT_CSS             = "default.css";
+    private static final java.util.logging.Logger  log                     = Logger.getLogger(AutoLayout.class.getCanonicalName());
+    private static final double                    MAX_BREAKPOINT_WIDTH    = 16384.0;
+    private static final String                    STYLE_SHEET             = "auto-layout.css";
 
+    private CompletableFuture<List<Double>>        breakpointing;
+    private List<Double>                           breakpoints;
+    private SchemaNodeLayout                       breakpointsOf;
+    private LayoutPlan                             built;
     private LayoutCell<? extends Region>           control;
     private final FocusController<AutoLayout>      controller;
-    private SimpleObjectProperty<JsonNode>         data        = new SimpleObjectProperty<>();
+    private SimpleObjectProperty<JsonNode>         data                    = new SimpleObjectProperty<>();
+    private boolean                                flattenTables;
     private SchemaNodeLayout                       layout;
-    private double                                 layoutWidth = 0.0;
+    private Executor                               layoutExecutor;
+    private double                                 layoutWidth             = 0.0;
+    private CompletableFuture<Measurement>         measuring;
+    private MeasurementStore                       measurementStore;
     private Style                                 model;
-    private final SimpleObjectProperty<SchemaNode> root        = new SimpleObjectProperty<>();
+    private boolean                                pending;
+    private CompletableFuture<LayoutPlan>          planning;
+    private double                                 planningWidth;
+    private boolean                                posted;
+    private SchemaNodeLayout                       planned;
+    private int                                    planCacheSize           = DEFAULT_PLAN_CACHE_SIZE;
+    private double                                 planQuantum             = 1.0;
+    private final Map<Double, LayoutPlan>          plans                   = new LinkedHashMap<>(16,
+                                                                                             0.75f,
+                                                                                             true);
+    private final SimpleObjectProperty<SchemaNode> root                    = new SimpleObjectProperty<>();
+    private final PauseTransition                  settle                  = new PauseTransition(DEFAULT_SETTLE_DELAY);
+    private long                                   skippedLayouts;
     private final String                           stylesheet;
 
     public AutoLayout() {
@@ -75,15 +130,66 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
         controller = new FocusController<>(this);
         getStylesheets().addListener((ListChangeListener<String>) c -> {
             model.setStyleSheets(getStylesheets());
-            layout = null;
+            replaceLayout(null);
         });
         getStylesheets().add(getClass().getResource(DEFAULT_CSS)
                                        .toExternalForm());
+        settle.setOnFinished(e -> layoutPending());
     }
 
+    /**
+     * Append the rows to the data. The rows are appended to the data array in
+     * place, and only the appended rows are added to the items of the control,
+     * so listeners of the data property are not notified. The rows are merged
+     * into the running statistics of the measured layout, and the layout is
+     * only recomputed if a measured width or cardinality changed.
+     */
+    public void append(JsonNode rows) {
+        ArrayNode appended = SchemaNode.asArray(rows);
+        JsonNode current = data.get();
+        if (current == null) {
+            data.set(JsonNodeFactory.instance.arrayNode()
+                                             .addAll(appended));
+            return;
+        }
+        if (!current.isArray()) {
+            throw new IllegalStateException(String.format("Cannot append to non array data: %s",
+                                                          current));
+        }
+        if (appended.size() == 0) {
+            return;
+        }
+        if (measuring != null) {
+            // the data is being measured on the layout executor, so is copied
+            // rather than appended to in place
+            ArrayNode combined = JsonNodeFactory.instance.arrayNode(current.size()
+                                                                    + appended.size());
+            combined.addAll((ArrayNode) current);
+            combined.addAll(appended);
+            data.set(combined);
+            return;
+        }
+        ((ArrayNode) current).addAll(appended);
+        boolean relayout = layout != null && merge(appended);
+        if (control == null) {
+            post();
+            return;
+        }
+        if (!control.appendItems(SchemaNode.asList(appended))) {
+            control.updateItem(current);
+        }
+        if (relayout) {
+            post();
+        }
+    }
+
+    /**
+     * Lay out the data on the next pulse. Requests made before the pass runs
+     * are coalesced into the one pass.
+     */
     public void autoLayout() {
         layoutWidth = 0.0;
-        Platform.runLater(() -> autoLayout(getData(), getWidth()));
+        post();
     }
 
     public Property<JsonNode> dataProperty() {
@@ -94,38 +200,141 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
         return data.get();
     }
 
+    /**
+     * Answer the ascending widths at which the structure of the layout of the
+     * data changes, or the empty list if the data has not been measured.
+     * Between consecutive breakpoints, the layout only differs in its
+     * justification. With a layout executor, the breakpoints are found on the
+     * executor once the layout is measured or merged, and the empty list is
+     * answered until they are found. Without one, they are found when first
+     * asked for, on the calling thread.
+     */
+    public List<Double> getBreakpoints() {
+        if (layout == null) {
+            return Collections.emptyList();
+        }
+        if (layoutExecutor == null && breakpointsOf != layout) {
+            SchemaNodeLayout measured = layout;
+            try {
+                breakpoints = Collections.unmodifiableList(measured.copy(model)
+                                                                   .breakpoints(10.0,
+                                                                                MAX_BREAKPOINT_WIDTH,
+                                                                                BREAKPOINT_STEP));
+            } catch (Throwable e) {
+                log.log(Level.WARNING, "cannot find layout breakpoints", e);
+                breakpoints = Collections.emptyList();
+            }
+            breakpointsOf = measured;
+        }
+        findBreakpoints();
+        return breakpointsOf == layout ? breakpoints : Collections.emptyList();
+    }
+
     @Override
     public AutoLayout getNode() {
         return this;
     }
 
+    /**
+     * Answer the store of measurement snapshots, or null if measurements are
+     * not persisted
+     */
+    public MeasurementStore getMeasurementStore() {
+        return measurementStore;
+    }
+
+    /**
+     * Answer the executor data is measured and layouts are planned on, or null
+     * if they are measured and planned on the FX thread
+     */
+    public Executor getLayoutExecutor() {
+        return layoutExecutor;
+    }
+
+    /**
+     * Answer the maximum number of layout plans cached
+     */
+    public int getPlanCacheSize() {
+        return planCacheSize;
+    }
+
+    /**
+     * Answer the quantum of the widths layout plans are cached for
+     */
+    public double getPlanQuantum() {
+        return planQuantum;
+    }
+
     public SchemaNode getRoot() {
         return root.get();
     }
 
+    /**
+     * Answer the delay after the last resize of a burst before the data is
+     * laid out for the resized width
+     */
+    public Duration getSettleDelay() {
+        return settle.getDuration();
+    }
+
+    /**
+     * Answer the number of layout passes requested and then superseded by a
+     * later request before they ran
+     */
+    public long getSkippedLayouts() {
+        return skippedLayouts;
+    }
+
     @Override
     public String getUserAgentStylesheet() {
         return stylesheet;
     }
 
+    /**
+     * Answer true if the nested tables of a table are flattened into the rows
+     * of the table
+     */
+    public boolean isFlattenTables() {
+        return flattenTables;
+    }
+
     @Override
     public boolean isReusable() {
         return true;
     }
 
+    /**
+     * Measure the data. With a layout executor, the data is measured on the
+     * executor, superseding the measurement in flight, and the current control
+     * remains until the measured layout is built.
+     */
     public void measure(JsonNode data) {
         SchemaNode top = root.get();
         if (top == null || data == null || data.isNull() || data.size() == 0) {
             return;
         }
+        if (layoutExecutor != null) {
+            measureAsync(top, data);
+            return;
+        }
         try {
-            layout = model.layout(top)
-                          .measure(data, model);
+            replaceLayout(model.withResolvedStyles(top,
+                                                   () -> model.layout(top)
+                                                              .measure(data,
+                                                                       model)));
         } catch (Throwable e) {
             log.log(Level.SEVERE, "cannot measure data", e);
+            return;
         }
+        store();
     }
 
+    /**
+     * A resize that keeps the structure of the layout re-justifies the current
+     * control on the next pulse. Bursts of resizes that change the structure
+     * are coalesced: the current control is stretched to each width, and the
+     * data is laid out once the resizing pauses for the settle delay.
+     */
     @Override
     public void resize(double width, double height) {
         super.resize(width, height);
@@ -135,22 +344,16 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
 
         layoutWidth = width;
 
-        SchemaNode node = root.get();
-        if (node == null) {
+        if (root.get() == null || data.get() == null) {
             return;
         }
-
-        JsonNode zeeData = data.get();
-        if (zeeData == null) {
+        if (control == null || !restructures(width)) {
+            post();
             return;
         }
-
-        try {
-            autoLayout(zeeData, width);
-        } catch (Throwable e) {
-            log.log(Level.SEVERE,
-                    String.format("Unable to resize to %s", width), e);
-        }
+        request();
+        size(control.getNode(), width);
+        settle.playFromStart();
     }
 
     public SchemaNode root() {
@@ -161,10 +364,82 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
         return root;
     }
 
+    /**
+     * Persist measurements in the store. When the layout must be measured, a
+     * snapshot stored for the same schema and style sheets is restored and laid
+     * out immediately, and the layout is refined by measuring the data on the
+     * next pulse.
+     */
+    public void setMeasurementStore(MeasurementStore measurementStore) {
+        this.measurementStore = measurementStore;
+    }
+
+    /**
+     * Set whether the nested tables of a table are flattened into the rows of
+     * the table, so that a single virtual flow manages every row of the
+     * hierarchy. The control is rebuilt on the next layout pass.
+     */
+    public void setFlattenTables(boolean flattenTables) {
+        if (this.flattenTables == flattenTables) {
+            return;
+        }
+        this.flattenTables = flattenTables;
+        built = null;
+        autoLayout();
+    }
+
+    /**
+     * Measure data and plan layouts for new widths on the executor rather than
+     * the FX thread, so that only the controls are built on the FX thread. New
+     * data or widths supersede the measurement or plan in flight. Until the
+     * measurement or plan completes, the current control is stretched to the
+     * width and remains interactive.
+     */
+    public void setLayoutExecutor(Executor layoutExecutor) {
+        this.layoutExecutor = layoutExecutor;
+    }
+
+    /**
+     * Set the maximum number of layout plans cached, evicting the least
+     * recently used plans beyond it
+     */
+    public void setPlanCacheSize(int planCacheSize) {
+        if (planCacheSize < 1) {
+            throw new IllegalArgumentException(String.format("Plan cache size must be at least 1: %s",
+                                                             planCacheSize));
+        }
+        this.planCacheSize = planCacheSize;
+        evictPlans(planCacheSize);
+    }
+
+    /**
+     * Set the quantum of the widths layout plans are cached for. The layout is
+     * planned for the width rounded down to a multiple of the quantum, so that
+     * the plan never exceeds the width, and resizing back to a width of the
+     * same multiple reuses the cached plan.
+     */
+    public void setPlanQuantum(double planQuantum) {
+        if (planQuantum < 1.0) {
+            throw new IllegalArgumentException(String.format("Plan quantum must be at least 1: %s",
+                                                             planQuantum));
+        }
+        this.planQuantum = planQuantum;
+        plans.clear();
+    }
+
     public void setRoot(SchemaNode rootNode) {
         root.set(rootNode);
     }
 
+    /**
+     * Set the delay after the last resize of a burst before the data is laid
+     * out for the resized width. Until then, the current control is stretched
+     * to the width.
+     */
+    public void setSettleDelay(Duration settleDelay) {
+        settle.setDuration(settleDelay);
+    }
+
     @Override
     public void updateItem(JsonNode item) {
         data.set(item);
@@ -176,11 +451,35 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
         if (width < 10.0) {
             return;
         }
-        if (layout == null) {
-            measure(zeeData);
+        if (layout == null && measuring == null) {
+            if (restore()) {
+                Platform.runLater(() -> refine());
+            } else {
+                measure(zeeData);
+            }
+        }
+        if (layout == null || measuring != null) {
+            if (control != null) {
+                size(control.getNode(), width);
+            }
+            return;
+        }
+        findBreakpoints();
+        LayoutPlan plan = plan(width);
+        if (plan == null) {
+            return;
+        }
+        plan.applyTo(layout);
+        if (control != null && plan.hasStructureOf(built)) {
+            built = plan;
+            control.rejustify();
+            size(control.getNode(), width);
+            return;
         }
         LayoutCell<?> old = control;
-        control = layout.autoLayout(width, controller, model);
+        model.releaseCellPools(layout);
+        control = buildControl();
+        built = plan;
         Region node = control.getNode();
 
         setTopAnchor(node, 0d);
@@ -192,18 +491,368 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
         if (old != null) {
             old.dispose();
         }
-        node.setMinWidth(width);
-        node.setPrefWidth(width);
-        node.setMaxWidth(width);
+        size(node, width);
         control.updateItem(zeeData);
     }
 
+    /**
+     * Build the control of the layout, flattening its nested tables if the
+     * layout is a table and tables are flattened
+     */
+    private LayoutCell<? extends Region> buildControl() {
+        if (flattenTables && layout instanceof RelationLayout
+            && ((RelationLayout) layout).isUseTable()) {
+            return LayoutControls.buildFlatTable((RelationLayout) layout,
+                                                 controller, model);
+        }
+        return LayoutControls.buildControl(layout, controller, model);
+    }
+
+    /**
+     * Discard the breakpoints of the layout, and the search for them in flight
+     */
+    private void clearBreakpoints() {
+        if (breakpointing != null) {
+            breakpointing.cancel(false);
+            breakpointing = null;
+        }
+        breakpoints = null;
+        breakpointsOf = null;
+    }
+
+    /**
+     * Evict the least recently used plans until at most the size remain
+     */
+    private void evictPlans(int size) {
+        while (plans.size() > size) {
+            plans.remove(plans.keySet()
+                              .iterator()
+                              .next());
+        }
+    }
+
+    /**
+     * Find the breakpoints of the layout, unless they are found or being found.
+     * The breakpoints are found from a copy of the layout on the layout
+     * executor, and are cached with the layout until it is measured again or
+     * changed by a merge; a search for a layout since superseded starts over
+     * for the current layout. Without a layout executor, they are not
+     * searched for as the layout is laid out, as resizes without them are
+     * coalesced anyway.
+     */
+    private void findBreakpoints() {
+        if (layoutExecutor == null || layout == null
+            || breakpointsOf == layout || breakpointing != null) {
+            return;
+        }
+        SchemaNodeLayout measured = layout;
+        SchemaNodeLayout copy = measured.copy(model);
+        CompletableFuture<List<Double>> future = supplyAsync(cancelled -> Collections.unmodifiableList(copy.breakpoints(10.0,
+                                                                                                                        MAX_BREAKPOINT_WIDTH,
+                                                                                                                        BREAKPOINT_STEP,
+                                                                                                                        cancelled)));
+        breakpointing = future;
+        future.whenComplete((b, t) -> Platform.runLater(() -> {
+            if (future != breakpointing) {
+                return;
+            }
+            breakpointing = null;
+            if (measured != layout) {
+                findBreakpoints();
+                return;
+            }
+            if (t != null) {
+                log.log(Level.WARNING, "cannot find layout breakpoints", t);
+            }
+            breakpoints = t == null ? b : Collections.emptyList();
+            breakpointsOf = measured;
+        }));
+    }
+
+    /**
+     * Lay out the data for the current width, if a layout pass was requested
+     */
+    private void layoutPending() {
+        settle.stop();
+        if (!pending) {
+            return;
+        }
+        pending = false;
+        JsonNode zeeData = data.get();
+        if (root.get() == null || zeeData == null) {
+            return;
+        }
+        try {
+            autoLayout(zeeData, getWidth());
+        } catch (Throwable e) {
+            log.log(Level.SEVERE,
+                    String.format("Unable to lay out to %s", getWidth()), e);
+        }
+    }
+
+    /**
+     * Measure the data on the layout executor, and plan the measured layout
+     * for the current width. The styles of the schema are resolved on the FX
+     * thread first.
+     */
+    private void measureAsync(SchemaNode top, JsonNode data) {
+        if (measuring != null) {
+            measuring.cancel(false);
+        }
+        SchemaNodeLayout fresh;
+        try {
+            fresh = model.withResolvedStyles(top, () -> model.layout(top));
+        } catch (Throwable e) {
+            log.log(Level.SEVERE, "cannot measure data", e);
+            return;
+        }
+        double width = quantize(getWidth());
+        CompletableFuture<Measurement> measurement = supplyAsync(cancelled -> {
+            SchemaNodeLayout measured = fresh.measure(data, model, cancelled);
+            return new Measurement(measured,
+                                   width < 10.0 ? null
+                                                : measured.plan(width,
+                                                                cancelled),
+                                   width);
+        });
+        measuring = measurement;
+        measurement.whenComplete((m, t) -> Platform.runLater(() -> measured(measurement,
+                                                                            m,
+                                                                            t)));
+    }
+
+    /**
+     * Adopt the layout measured by the measurement, unless it has been
+     * superseded. A layout with the measurement of the current layout only
+     * updates the current control with the data.
+     */
+    private void measured(CompletableFuture<Measurement> measurement,
+                          Measurement measured, Throwable t) {
+        if (measurement != measuring) {
+            return;
+        }
+        measuring = null;
+        if (t != null) {
+            log.log(Level.SEVERE, "cannot measure data", t);
+            return;
+        }
+        if (layout != null && control != null
+            && layout.snapshot()
+                     .equals(measured.layout.snapshot())) {
+            control.updateItem(data.get());
+            return;
+        }
+        replaceLayout(measured.layout);
+        plans.clear();
+        planned = layout;
+        built = null;
+        if (measured.plan != null) {
+            planned(measured.width, measured.plan);
+        }
+        store();
+        post();
+    }
+
+    /**
+     * Answer the key of the measurement of the schema with the current style
+     * sheets and default font
+     */
+    private String measurementKey(SchemaNode top) {
+        Font font = Font.getDefault();
+        return MeasurementStore.key(top, model.styleSheets(),
+                                    String.format("%s %s", font.getName(),
+                                                  font.getSize()));
+    }
+
+    private boolean merge(ArrayNode rows) {
+        SchemaNode top = root.get();
+        try {
+            boolean changed = model.withResolvedStyles(top,
+                                                       () -> model.layout(top)
+                                                                  .append(layout,
+                                                                          rows,
+                                                                          model));
+            if (changed) {
+                plans.clear();
+                clearBreakpoints();
+                built = null;
+            }
+            return changed;
+        } catch (Throwable e) {
+            log.log(Level.SEVERE, "cannot merge appended data", e);
+            replaceLayout(null);
+            return true;
+        }
+    }
+
+    /**
+     * Answer the plan of the layout for the width, or the cached plan of the
+     * quantized width if there is one. With a layout executor, a plan that is
+     * not cached is planned on the executor, superseding the plan in flight for
+     * another width, and null is answered; the data is laid out again when the
+     * plan is cached.
+     */
+    private LayoutPlan plan(double width) {
+        if (planned != layout) {
+            plans.clear();
+            planned = layout;
+            built = null;
+        }
+        double quantized = quantize(width);
+        LayoutPlan plan = plans.get(quantized);
+        if (plan != null) {
+            return plan;
+        }
+        if (layoutExecutor == null) {
+            plan = layout.plan(quantized);
+            planned(quantized, plan);
+            return plan;
+        }
+        if (planning != null && planningWidth == quantized) {
+            return null;
+        }
+        if (planning != null) {
+            planning.cancel(false);
+        }
+        SchemaNodeLayout measured = layout;
+        SchemaNodeLayout copy = layout.copy(model);
+        CompletableFuture<LayoutPlan> future = supplyAsync(cancelled -> copy.plan(quantized,
+                                                                                  cancelled));
+        planning = future;
+        planningWidth = quantized;
+        future.whenComplete((p, t) -> Platform.runLater(() -> {
+            if (future != planning) {
+                return;
+            }
+            planning = null;
+            if (t != null) {
+                log.log(Level.SEVERE,
+                        String.format("Unable to plan %s", quantized), t);
+                return;
+            }
+            if (measured == layout) {
+                planned(quantized, p);
+                post();
+            }
+        }));
+        return null;
+    }
+
+    /**
+     * Cache the plan of the quantized width, evicting the least recently used
+     * plan if the cache is full
+     */
+    private void planned(double quantized, LayoutPlan plan) {
+        evictPlans(planCacheSize - 1);
+        plans.put(quantized, plan);
+    }
+
+    /**
+     * Request a layout pass on the next pulse
+     */
+    private void post() {
+        request();
+        if (posted) {
+            return;
+        }
+        posted = true;
+        Platform.runLater(() -> {
+            posted = false;
+            layoutPending();
+        });
+    }
+
+    /**
+     * Answer the width rounded down to a multiple of the plan quantum, or to
+     * a whole pixel if the width is less than the quantum
+     */
+    private double quantize(double width) {
+        double quantized = Math.floor(width / planQuantum) * planQuantum;
+        return quantized > 0 ? quantized : Math.floor(width);
+    }
+
+    private void refine() {
+        SchemaNodeLayout restored = layout;
+        if (restored == null) {
+            return;
+        }
+        JsonNode zeeData = data.get();
+        measure(zeeData);
+        if (layout != restored
+            && !restored.snapshot()
+                        .equals(layout.snapshot())) {
+            autoLayout(zeeData, getWidth());
+        }
+    }
+
+    /**
+     * Replace the measured layout, disposing the cells pooled for the controls
+     * built from the layout replaced
+     */
+    private void replaceLayout(SchemaNodeLayout measured) {
+        if (layout != null && layout != measured) {
+            model.releaseCellPools(layout);
+        }
+        layout = measured;
+    }
+
+    /**
+     * Request a layout pass, counting the pending request it supersedes as
+     * skipped
+     */
+    private void request() {
+        if (pending) {
+            skippedLayouts++;
+        }
+        pending = true;
+    }
+
+    /**
+     * Answer true if the layout for the width may not have the structure of
+     * the current control
+     */
+    private boolean restructures(double width) {
+        if (built == null || planned != layout) {
+            return true;
+        }
+        if (breakpointsOf != layout) {
+            // not yet found, so resizes are coalesced
+            return true;
+        }
+        double from = Math.min(built.getWidth(), quantize(width));
+        double to = Math.max(built.getWidth(), quantize(width));
+        return breakpoints.stream()
+                          .anyMatch(b -> b > from && b <= to);
+    }
+
+    private boolean restore() {
+        SchemaNode top = root.get();
+        if (measurementStore == null || top == null) {
+            return false;
+        }
+        try {
+            JsonNode snapshot = measurementStore.load(measurementKey(top));
+            if (snapshot == null) {
+                return false;
+            }
+            replaceLayout(model.withResolvedStyles(top,
+                                                   () -> model.layout(top)
+                                                              .restore(snapshot,
+                                                                       model)));
+            return true;
+        } catch (Throwable e) {
+            log.log(Level.WARNING, "cannot restore measurement", e);
+            replaceLayout(null);
+            return false;
+        }
+    }
+
     private void setContent() {
         JsonNode datum = data.get();
         try {
             if (control == null) {
-                Platform.runLater(() -> autoLayout(datum, getWidth()));
-            } else {
+                post();
+            } else if (measuring == null) {
                 control.updateItem(datum);
             }
             layout();
@@ -211,4 +860,43 @@ public class AutoLayout extends AnchorPane implements LayoutCell<AutoLayout> {
             log.log(Level.SEVERE, "cannot set content", e);
         }
     }
+
+    private void size(Region node, double width) {
+        node.setMinWidth(width);
+        node.setPrefWidth(width);
+        node.setMaxWidth(width);
+    }
+
+    private void store() {
+        SchemaNode top = root.get();
+        if (measurementStore == null || top == null || layout == null) {
+            return;
+        }
+        try {
+            measurementStore.store(measurementKey(top), layout.snapshot());
+        } catch (Throwable e) {
+            log.log(Level.WARNING, "cannot store measurement", e);
+        }
+    }
+
+    /**
+     * Answer the result of the task run on the layout executor. The task is
+     * given the cancellation of the answered future, so that a task superseded
+     * while it is running stops at its next check of the cancellation, rather
+     * than running to completion.
+     */
+    private <T> CompletableFuture<T> supplyAsync(Function<BooleanSupplier, T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        layoutExecutor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.apply(future::isCancelled));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
 }
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2016 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.chiralbehaviors.layout;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.chiralbehaviors.layout.cell.LayoutCell;
+import com.chiralbehaviors.layout.cell.PrimitiveList;
+import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.outline.Outline;
+import com.chiralbehaviors.layout.style.LabelStyle;
+import com.chiralbehaviors.layout.style.PrimitiveStyle;
+import com.chiralbehaviors.layout.style.RelationStyle;
+import com.chiralbehaviors.layout.style.Style;
+import com.chiralbehaviors.layout.table.ColumnHeader;
+import com.chiralbehaviors.layout.table.FlatTable;
+import com.chiralbehaviors.layout.table.NestedRow;
+import com.chiralbehaviors.layout.table.NestedTable;
+import com.chiralbehaviors.layout.table.TableHeader;
+
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+
+/**
+ * The controls built from planned layouts. The layouts are measured and
+ * planned by the metrics and insets of their styles, and the controls built
+ * from them are styled by the styles themselves.
+ *
+ * @author halhildebrand
+ *
+ */
+public final class LayoutControls {
+
+    /**
+     * Plan the layout for the width, and build its control
+     */
+    public static LayoutCell<? extends Region> autoLayout(SchemaNodeLayout layout,
+                                                          double width,
+                                                          FocusTraversal<?> parentTraversal,
+                                                          Style model) {
+        layout.plan(width);
+        return buildControl(layout, parentTraversal, model);
+    }
+
+    public static LayoutCell<?> buildCell(PrimitiveLayout layout,
+                                          FocusTraversal<?> pt) {
+        return ((PrimitiveStyle) layout.getStyle()).build(pt, layout);
+    }
+
+    /**
+     * Build the control of the layout as a column of a nested table, of the
+     * rendered height
+     */
+    public static LayoutCell<? extends Region> buildColumn(SchemaNodeLayout layout,
+                                                           double rendered,
+                                                           FocusTraversal<?> parentTraversal,
+                                                           Style model) {
+        if (layout instanceof RelationLayout) {
+            RelationLayout relation = (RelationLayout) layout;
+            return new NestedRow(rendered, relation,
+                                 relation.getResolvedCardinality(),
+                                 parentTraversal, model, style(relation));
+        }
+        LayoutCell<? extends Region> control = buildControl(layout,
+                                                            parentTraversal,
+                                                            model);
+        sizeColumn(layout, control, rendered);
+        return control;
+    }
+
+    public static TableHeader buildColumnHeader(RelationLayout layout) {
+        return new TableHeader(Style.snap(layout.getJustifiedWidth()),
+                               layout.columnHeaderHeight(),
+                               layout.getChildren());
+    }
+
+    public static LayoutCell<? extends Region> buildControl(SchemaNodeLayout layout,
+                                                            FocusTraversal<?> parentTraversal,
+                                                            Style model) {
+        if (layout instanceof RelationLayout) {
+            RelationLayout relation = (RelationLayout) layout;
+            return relation.isUseTable() ? buildNestedTable(relation,
+                                                            parentTraversal,
+                                                            model)
+                                         : buildOutline(relation,
+                                                        parentTraversal, model);
+        }
+        PrimitiveLayout primitive = (PrimitiveLayout) layout;
+        return primitive.getAverageCardinality() > 1 ? new PrimitiveList(primitive,
+                                                                         parentTraversal)
+                                                     : buildCell(primitive,
+                                                                 parentTraversal);
+    }
+
+    /**
+     * Build the table of the layout with its nested relations flattened into
+     * a single virtual flow of rows
+     */
+    public static FlatTable buildFlatTable(RelationLayout layout,
+                                           FocusTraversal<?> parentTraversal,
+                                           Style model) {
+        return new FlatTable(layout, parentTraversal, model, style(layout));
+    }
+
+    public static LayoutCell<NestedTable> buildNestedTable(RelationLayout layout,
+                                                           FocusTraversal<?> parentTraversal,
+                                                           Style model) {
+        return new NestedTable(layout.getResolvedCardinality(), layout,
+                               parentTraversal, model, style(layout));
+    }
+
+    public static Outline buildOutline(RelationLayout layout,
+                                       FocusTraversal<?> parentTraversal,
+                                       Style model) {
+        return new Outline(layout.getJustifiedWidth(), layout.getCellHeight(),
+                           layout.getColumnSets(),
+                           layout.getResolvedCardinality(), layout,
+                           parentTraversal, model, style(layout),
+                           layout.getLabelWidth());
+    }
+
+    /**
+     * Answer the header of the column of the layout, of the rendered height
+     */
+    public static Function<Double, ColumnHeader> columnHeader(SchemaNodeLayout layout) {
+        double width = Style.snap(layout.getJustifiedWidth()
+                                  + layout.getColumnHeaderIndentation());
+        if (layout instanceof PrimitiveLayout) {
+            return rendered -> new ColumnHeader(width, rendered,
+                                                (PrimitiveLayout) layout);
+        }
+        RelationLayout relation = (RelationLayout) layout;
+        List<Function<Double, ColumnHeader>> nestedHeaders = relation.getChildren()
+                                                                     .stream()
+                                                                     .map(c -> columnHeader(c))
+                                                                     .collect(Collectors.toList());
+        return rendered -> new ColumnHeader(width, rendered, relation,
+                                            nestedHeaders);
+    }
+
+    public static Label label(SchemaNodeLayout layout, double width,
+                              double height) {
+        return ((LabelStyle) layout.getLabelStyle()).label(width,
+                                                           layout.getLabel(),
+                                                           height);
+    }
+
+    /**
+     * Re-justify the column built from the layout by
+     * {@link #buildColumn(SchemaNodeLayout, double, FocusTraversal, Style)}
+     * to the current plan
+     */
+    public static void rejustifyColumn(SchemaNodeLayout layout,
+                                       LayoutCell<? extends Region> column,
+                                       double rendered) {
+        if (layout instanceof RelationLayout) {
+            ((NestedRow) column).rejustify(rendered);
+            return;
+        }
+        column.rejustify();
+        sizeColumn(layout, column, rendered);
+    }
+
+    private static void sizeColumn(SchemaNodeLayout layout,
+                                   LayoutCell<? extends Region> column,
+                                   double rendered) {
+        double justified = layout.getJustifiedWidth();
+        column.getNode()
+              .setMinSize(justified, rendered);
+        column.getNode()
+              .setPrefSize(justified, rendered);
+        column.getNode()
+              .setMaxSize(justified, rendered);
+    }
+
+    private static RelationStyle style(RelationLayout layout) {
+        return (RelationStyle) layout.getStyle();
+    }
+
+    private LayoutControls() {
+    }
+}
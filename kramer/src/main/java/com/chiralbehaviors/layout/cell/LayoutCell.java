@@ -16,6 +16,8 @@
 
 package com.chiralbehaviors.layout.cell;
 
+import java.util.List;
+
 import com.chiralbehaviors.layout.flowless.Cell;
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -41,6 +43,15 @@ public interface LayoutCell<T extends Region> extends Cell<JsonNode, T> {
     default void activate() {
     }
 
+    /**
+     * Append the rows to the rows of the item of the cell. Answer false if
+     * the cell cannot append rows, and must be updated with the whole item
+     * instead.
+     */
+    default boolean appendItems(List<JsonNode> rows) {
+        return false;
+    }
+
     default void cancelEdit() {
     }
 
@@ -94,6 +105,13 @@ public interface LayoutCell<T extends Region> extends Cell<JsonNode, T> {
         return true;
     }
 
+    /**
+     * Re-justify the cell to the current plan of the layout it was built from.
+     * The plan must have the structure of the plan the cell was built for.
+     */
+    default void rejustify() {
+    }
+
     default void setExternalFocus(boolean externalFocus) {
         T node = getNode();
         node.pseudoClassStateChanged(INTERNAL_PSEUDOCLASS_STATE,
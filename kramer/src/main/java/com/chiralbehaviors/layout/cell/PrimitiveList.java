@@ -18,45 +18,46 @@ package com.chiralbehaviors.layout.cell;
 
 import java.util.Arrays;
 
+import com.chiralbehaviors.layout.LayoutControls;
 import com.chiralbehaviors.layout.PrimitiveLayout;
 import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.flowless.ItemList;
 import com.chiralbehaviors.layout.flowless.VirtualFlow;
 import com.chiralbehaviors.layout.schema.SchemaNode;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import javafx.collections.FXCollections;
-
 /**
  * @author halhildebrand
  *
  */
 public class PrimitiveList extends VirtualFlow<LayoutCell<?>> {
-    private static final String DEFAULT_STYLE         = "outline";
-    private static final String SCHEMA_CLASS_TEMPLATE = "%s-outline";
-    private static final String STYLE_SHEET           = "outline.css";
+    private static final String   DEFAULT_STYLE         = "outline";
+    private static final String   SCHEMA_CLASS_TEMPLATE = "%s-outline";
+    private static final String   STYLE_SHEET           = "outline.css";
+
+    private final PrimitiveLayout layout;
 
     public PrimitiveList(PrimitiveLayout layout,
                          FocusTraversal<?> parentTraversal) {
         super(layout.getField(), layout.getJustifiedWidth(),
-              layout.getCellHeight(), FXCollections.observableArrayList(),
+              layout.getCellHeight(), new ItemList(),
               (item, pt) -> {
-                  LayoutCell<?> outlineCell = layout.buildCell(pt);
+                  LayoutCell<?> outlineCell = LayoutControls.buildCell(layout,
+                                                                       pt);
                   outlineCell.updateItem(item);
                   return outlineCell;
               }, parentTraversal,
               Arrays.asList(DEFAULT_STYLE, String.format(SCHEMA_CLASS_TEMPLATE,
                                                          layout.getField())));
-        double width = layout.getJustifiedWidth();
-        double height = layout.getHeight();
-        setMinSize(width, height);
-        setPrefSize(width, height);
-        setMaxSize(width, height);
+        this.layout = layout;
+        size();
     }
 
     public PrimitiveList(String field) {
         super(STYLE_SHEET);
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE, field));
+        this.layout = null;
     }
 
     @Override
@@ -67,10 +68,24 @@ public class PrimitiveList extends VirtualFlow<LayoutCell<?>> {
         }
     }
 
+    @Override
+    public void rejustify() {
+        resizeCells(layout.getJustifiedWidth(), layout.getCellHeight());
+        size();
+    }
+
     @Override
     public void updateItem(JsonNode item) {
         items.setAll(SchemaNode.asList(item));
         pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
         pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
     }
+
+    private void size() {
+        double width = layout.getJustifiedWidth();
+        double height = layout.getHeight();
+        setMinSize(width, height);
+        setPrefSize(width, height);
+        setMaxSize(width, height);
+    }
 }
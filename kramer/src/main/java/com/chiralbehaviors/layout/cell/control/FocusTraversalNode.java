@@ -47,7 +47,7 @@ abstract public class FocusTraversalNode<C extends LayoutCell<?>>
     }
 
     protected final Bias                         bias;
-    protected final FocusTraversal<?>            parent;
+    protected FocusTraversal<?>                  parent;
     protected MultipleCellSelection<JsonNode, C> selectionModel;
 
     public FocusTraversalNode(FocusTraversal<?> parent,
@@ -60,7 +60,7 @@ abstract public class FocusTraversalNode<C extends LayoutCell<?>>
         node.focusedProperty()
             .addListener((InvalidationListener) property -> {
                 if (node.isFocused()) {
-                    parent.setCurrent();
+                    this.parent.setCurrent();
                 }
             });
         node.setOnMouseEntered(e -> node.pseudoClassStateChanged(LayoutCell.PSEUDO_CLASS_FOCUSED,
@@ -175,6 +175,14 @@ abstract public class FocusTraversalNode<C extends LayoutCell<?>>
         parent.setCurrent(focused);
     }
 
+    /**
+     * Move this node under the parent, as when its container is reused by
+     * another parent
+     */
+    public void setParent(FocusTraversal<?> parent) {
+        this.parent = parent;
+    }
+
     @Override
     public final void traverseNext() {
         System.out.println(String.format("Traverse next: %s",
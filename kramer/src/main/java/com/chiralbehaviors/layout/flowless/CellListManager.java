@@ -1,6 +1,7 @@
 package com.chiralbehaviors.layout.flowless;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.reactfx.EventStreams;
@@ -21,16 +22,29 @@ import javafx.scene.Node;
  */
 final class CellListManager<C extends LayoutCell<?>> {
 
-    private final LiveList<Node>     cellNodes;
-    private final CellPool<C>        cellPool;
-    private final MemoizationList<C> cells;
-    private final LiveList<C>        presentCells;
+    private final Consumer<? super C>                     adopt;
+    private final Function<? super JsonNode, ? extends C> cellFactory;
+    private final LiveList<Node>                          cellNodes;
+    private final CellPool<C>                             cellPool;
+    private final MemoizationList<C>                      cells;
+    private final LiveList<C>                             presentCells;
 
-    private final Subscription       presentCellsSubscription;
+    private final Subscription                            presentCellsSubscription;
+    private final boolean                                 shared;
 
+    /**
+     * Constructs a manager whose released cells are pooled in the shared pool,
+     * or in a pool of its own if the shared pool is null. Cells reused from a
+     * shared pool are adopted before they are updated with their items.
+     */
     public CellListManager(ObservableList<JsonNode> items,
-                           Function<? super JsonNode, ? extends C> cellFactory) {
-        this.cellPool = new CellPool<>(cellFactory);
+                           Function<? super JsonNode, ? extends C> cellFactory,
+                           CellPool<C> sharedPool,
+                           Consumer<? super C> adopt) {
+        this.cellFactory = cellFactory;
+        this.adopt = adopt;
+        this.shared = sharedPool != null;
+        this.cellPool = shared ? sharedPool : new CellPool<>();
         this.cells = LiveList.map(items, this::cellForItem)
                              .memoize();
         this.presentCells = cells.memoizedItems();
@@ -54,6 +68,16 @@ final class CellListManager<C extends LayoutCell<?>> {
     }
 
     public void dispose() {
+        if (shared) {
+            // the present cells may not fit the shared pool's layout any
+            // longer, and the shared pool outlives this manager
+            presentCells.forEach(cell -> {
+                cell.reset();
+                cell.dispose();
+            });
+            presentCellsSubscription.unsubscribe();
+            return;
+        }
         // return present cells to pool *before* unsubscribing,
         // because stopping to observe memoized items may clear memoized items
         presentCells.forEach(cellPool::acceptCell);
@@ -61,10 +85,25 @@ final class CellListManager<C extends LayoutCell<?>> {
         cellPool.dispose();
     }
 
+    /**
+     * Performs the action for each present cell and each cell pooled for
+     * reuse by this manager alone
+     */
+    public void forEachCell(Consumer<? super C> action) {
+        presentCells.forEach(action);
+        if (!shared) {
+            cellPool.forEach(action);
+        }
+    }
+
     public C getCell(int itemIndex) {
         return cells.get(itemIndex);
     }
 
+    public CellPool<C> getCellPool() {
+        return cellPool;
+    }
+
     public Optional<C> getCellIfPresent(int itemIndex) {
         return cells.getIfMemoized(itemIndex); // getIfMemoized() may throw
     }
@@ -88,8 +127,23 @@ final class CellListManager<C extends LayoutCell<?>> {
         return cells.isMemoized(itemIndex);
     }
 
+    /**
+     * Fill the cell pool with up to the count of cells created for the item
+     */
+    public void prewarm(int count, JsonNode item) {
+        cellPool.prewarm(count, () -> cellFactory.apply(item));
+    }
+
     private C cellForItem(JsonNode item) {
-        C cell = cellPool.getCell(item);
+        C cell = cellPool.poll();
+        if (cell == null) {
+            cell = cellFactory.apply(item);
+        } else {
+            if (shared) {
+                adopt.accept(cell);
+            }
+            cell.updateItem(item);
+        }
 
         // apply CSS when the cell is first added to the scene
         Node node = cell.getNode();
@@ -1,34 +1,42 @@
 package com.chiralbehaviors.layout.flowless;
 
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.function.Function;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.chiralbehaviors.layout.cell.LayoutCell;
-import com.fasterxml.jackson.databind.JsonNode;
 
 /**
- * Helper class that stores a pool of reusable cells that can be updated via
- * {@link Cell#updateItem(Object)} or creates new ones via its
- * {@link #cellFactory} if the pool is empty.
+ * Helper class that stores a bounded pool of reusable cells, which the flows
+ * drawing from the pool update via {@link Cell#updateItem(Object)}, or
+ * replace with new cells if the pool is empty. Cells accepted beyond the
+ * capacity of the pool are evicted and {@link Cell#dispose() disposed}, so the
+ * pool does not stay at the peak number of cells ever released. A pool may be
+ * shared by the flows whose cells are built from the same layout.
  */
-final class CellPool<C extends LayoutCell<?>> {
-    private final Function<? super JsonNode, ? extends C> cellFactory;
-    private final Queue<C>                                pool = new LinkedList<>();
+public final class CellPool<C extends LayoutCell<?>> {
+    public static final int DEFAULT_CAPACITY = 64;
 
-    public CellPool(Function<? super JsonNode, ? extends C> cellFactory) {
-        this.cellFactory = cellFactory;
-    }
+    private int             capacity         = DEFAULT_CAPACITY;
+    private long            evictions;
+    private long            hits;
+    private long            misses;
+    private final Deque<C>  pool             = new ArrayDeque<>();
 
     /**
      * Adds the cell to the pool of reusable cells if {@link Cell#isReusable()}
-     * is true, or {@link Cell#dispose() disposes} the cell if it's not.
+     * is true and the pool is not full, or {@link Cell#dispose() disposes} the
+     * cell if it's not.
      */
     public void acceptCell(C cell) {
         cell.reset();
-        if (cell.isReusable()) {
-            pool.add(cell);
+        if (!cell.isReusable()) {
+            cell.dispose();
+        } else if (pool.size() < capacity) {
+            pool.push(cell);
         } else {
+            evictions++;
             cell.dispose();
         }
     }
@@ -45,17 +53,94 @@ final class CellPool<C extends LayoutCell<?>> {
     }
 
     /**
-     * Returns a reusable cell that has been updated with the current item if
-     * the pool has one, or returns a newly-created one via its
-     * {@link #cellFactory}.
+     * Performs the action for each cell in the pool
+     */
+    public void forEach(Consumer<? super C> action) {
+        pool.forEach(action);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Answer the number of pooled cells that were evicted, rather than pooled,
+     * because the pool was full
      */
-    public C getCell(JsonNode item) {
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Answer the number of cells reused from the pool
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Answer the number of cells created because the pool was empty
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns a reusable cell if the pool has one, or null if the pool is
+     * empty.
+     */
+    public C poll() {
         C cell = pool.poll();
         if (cell != null) {
-            cell.updateItem(item);
+            hits++;
         } else {
-            cell = cellFactory.apply(item);
+            misses++;
         }
         return cell;
     }
-}
\ No newline at end of file
+
+    /**
+     * Fill the pool with up to the count of cells created by the factory
+     */
+    public void prewarm(int count, Supplier<? extends C> factory) {
+        int target = Math.min(count, capacity);
+        while (pool.size() < target) {
+            C cell = factory.get();
+            cell.reset();
+            if (!cell.isReusable()) {
+                cell.dispose();
+                return;
+            }
+            pool.push(cell);
+        }
+    }
+
+    /**
+     * Set the capacity of the pool, evicting the cells beyond it
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format("Invalid capacity: %s",
+                                                             capacity));
+        }
+        this.capacity = capacity;
+        while (pool.size() > capacity) {
+            evictions++;
+            pool.removeLast()
+                .dispose();
+        }
+    }
+
+    /**
+     * Answer the number of pooled cells
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CellPool [size=%s, capacity=%s, hits=%s, misses=%s, evictions=%s]",
+                             pool.size(), capacity, hits, misses, evictions);
+    }
+}
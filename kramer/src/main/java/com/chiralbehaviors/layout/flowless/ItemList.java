@@ -0,0 +1,54 @@
+package com.chiralbehaviors.layout.flowless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * The items of a {@link VirtualFlow}, whose edits may be batched so that the
+ * observers of the items, such as the memoized cells of the flow, process a
+ * single change rather than a change per edit.
+ */
+public final class ItemList extends ModifiableObservableListBase<JsonNode> {
+    private final List<JsonNode> items = new ArrayList<>();
+
+    /**
+     * Performs the edits of this list, which are reported as a single change
+     */
+    public void batch(Runnable edits) {
+        beginChange();
+        try {
+            edits.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public JsonNode get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    protected void doAdd(int index, JsonNode element) {
+        items.add(index, element);
+    }
+
+    @Override
+    protected JsonNode doRemove(int index) {
+        return items.remove(index);
+    }
+
+    @Override
+    protected JsonNode doSet(int index, JsonNode element) {
+        return items.set(index, element);
+    }
+}
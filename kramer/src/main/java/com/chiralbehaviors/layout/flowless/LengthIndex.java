@@ -0,0 +1,168 @@
+package com.chiralbehaviors.layout.flowless;
+
+import java.util.Arrays;
+
+/**
+ * The lengths of the items of a flow. Each item is the uniform cell length
+ * unless its length is set. The differences of the set lengths from the cell
+ * length are indexed by a Fenwick tree, so the offset of an item, and the item
+ * at an offset, are found in O(log n). Until a length is set, the index is
+ * just the count of the items.
+ */
+final class LengthIndex {
+    private double   cellLength;
+    private double[] lengths;
+    private int      size;
+    private double[] tree;
+
+    public LengthIndex(double cellLength) {
+        this.cellLength = cellLength;
+    }
+
+    /**
+     * Reset the lengths of all the items to the cell length
+     */
+    public void clear() {
+        lengths = null;
+        tree = null;
+    }
+
+    public double getCellLength() {
+        return cellLength;
+    }
+
+    /**
+     * Answer the index of the item at the offset, which is the count of the
+     * items if the offset is past the last item
+     */
+    public int indexAt(double offset) {
+        if (offset < 0.0) {
+            return 0;
+        }
+        if (tree == null) {
+            return cellLength <= 0.0 ? size
+                                     : (int) Math.min(size,
+                                                      Math.floor(offset
+                                                                 / cellLength));
+        }
+        int index = 0;
+        double accumulated = 0.0;
+        for (int step = Integer.highestOneBit(Math.max(1, size)); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next <= size) {
+                double spanned = accumulated + tree[next] + (cellLength * step);
+                if (spanned <= offset) {
+                    index = next;
+                    accumulated = spanned;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The items were replaced: the removed items at the index were replaced by
+     * the added items, whose lengths are the cell length
+     */
+    public void replace(int from, int removed, int added) {
+        int resized = size - removed + added;
+        if (lengths != null) {
+            double[] replaced = new double[resized];
+            System.arraycopy(lengths, 0, replaced, 0, from);
+            Arrays.fill(replaced, from, from + added, Double.NaN);
+            System.arraycopy(lengths, from + removed, replaced, from + added,
+                             size - from - removed);
+            lengths = replaced;
+        }
+        size = resized;
+        rebuild();
+    }
+
+    /**
+     * Answer the length of the item
+     */
+    public double length(int index) {
+        if (lengths == null || index >= size || Double.isNaN(lengths[index])) {
+            return cellLength;
+        }
+        return lengths[index];
+    }
+
+    /**
+     * Answer the summed length of the items before the item
+     */
+    public double offset(int index) {
+        int end = Math.max(0, Math.min(index, size));
+        double offset = cellLength * end;
+        if (tree != null) {
+            for (int i = end; i > 0; i -= i & -i) {
+                offset += tree[i];
+            }
+        }
+        return offset;
+    }
+
+    public void setCellLength(double cellLength) {
+        this.cellLength = cellLength;
+        rebuild();
+    }
+
+    /**
+     * Set the length of the item
+     */
+    public void setLength(int index, double length) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("%s of %s", index,
+                                                              size));
+        }
+        if (lengths == null) {
+            lengths = new double[size];
+            Arrays.fill(lengths, Double.NaN);
+            rebuild();
+        }
+        double delta = length - length(index);
+        lengths[index] = length;
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Set the lengths of the items from the index, in O(k log n) for k lengths
+     */
+    public void setLengths(int from, double[] lengths) {
+        if (from < 0 || from + lengths.length > size) {
+            throw new IndexOutOfBoundsException(String.format("%s lengths at %s of %s",
+                                                              lengths.length,
+                                                              from, size));
+        }
+        for (int i = 0; i < lengths.length; i++) {
+            setLength(from + i, lengths[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Answer the summed length of all the items
+     */
+    public double total() {
+        return offset(size);
+    }
+
+    private void rebuild() {
+        if (lengths == null) {
+            return;
+        }
+        tree = new double[size + 1];
+        for (int i = 0; i < size; i++) {
+            tree[i + 1] += length(i) - cellLength;
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= size) {
+                tree[parent] += tree[i + 1];
+            }
+        }
+    }
+}
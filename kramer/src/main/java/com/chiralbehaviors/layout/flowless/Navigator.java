@@ -11,9 +11,11 @@ import org.reactfx.collection.QuasiListModification;
 
 import com.chiralbehaviors.layout.cell.LayoutCell;
 
+import javafx.animation.AnimationTimer;
 import javafx.beans.binding.Bindings;
 import javafx.scene.Node;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * Responsible for laying out cells' nodes within the viewport based on a single
@@ -25,17 +27,28 @@ import javafx.scene.layout.Region;
  * fill up the entire viewport), the displayed cells are repositioned towards
  * the "ground," based on the {@link VirtualFlow}'s {@link Gravity} value, and
  * any remaining unused space counts as the "sky."
+ * <p>
+ * Up to the overscan count of cells beyond each edge of the viewport are kept
+ * placed outside of it. The missing overscan cells are built during the
+ * following pulses, within the prefetch budget of each pulse, so scrolling
+ * reaches cells that are already built.
  */
 final class Navigator<C extends LayoutCell<?>> extends Region
         implements TargetPositionVisitor {
+    public static final Duration     DEFAULT_PREFETCH_BUDGET = Duration.millis(4);
+
     private final CellListManager<C> cellListManager;
     private final MemoizationList<C> cells;
-    private TargetPosition           currentPosition = TargetPosition.BEGINNING;
+    private TargetPosition           currentPosition         = TargetPosition.BEGINNING;
     private final Subscription       itemsSubscription;
+    private int                      overscan                = 0;
     private final CellPositioner<C>  positioner;
-
+    private final AnimationTimer     prefetcher;
+    private Duration                 prefetchBudget          = DEFAULT_PREFETCH_BUDGET;
     private final SizeTracker        sizeTracker;
-    private TargetPosition           targetPosition  = TargetPosition.BEGINNING;
+    private TargetPosition           targetPosition          = TargetPosition.BEGINNING;
+    private int                      viewportFirst           = -1;
+    private int                      viewportLast            = -1;
 
     public Navigator(CellListManager<C> cellListManager,
                      CellPositioner<C> positioner, SizeTracker sizeTracker) {
@@ -47,13 +60,30 @@ final class Navigator<C extends LayoutCell<?>> extends Region
         this.itemsSubscription = LiveList.observeQuasiChanges(cellListManager.getLazyCellList(),
                                                               this::itemsChanged);
         Bindings.bindContent(getChildren(), cellListManager.getNodes());
+        prefetcher = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (!prefetch()) {
+                    stop();
+                }
+            }
+        };
     }
 
     public void dispose() {
+        prefetcher.stop();
         itemsSubscription.unsubscribe();
         Bindings.unbindContent(getChildren(), cellListManager.getNodes());
     }
 
+    public int getOverscan() {
+        return overscan;
+    }
+
+    public Duration getPrefetchBudget() {
+        return prefetchBudget;
+    }
+
     /**
      * Sets the {@link TargetPosition} used to layout the anchor node to the
      * current position scrolled by {@code delta} and re-lays out the viewport
@@ -63,6 +93,25 @@ final class Navigator<C extends LayoutCell<?>> extends Region
         requestLayout();
     }
 
+    /**
+     * Set the number of cells kept beyond each edge of the viewport
+     */
+    public void setOverscan(int overscan) {
+        if (overscan < 0) {
+            throw new IllegalArgumentException(String.format("Invalid overscan: %s",
+                                                             overscan));
+        }
+        this.overscan = overscan;
+        requestLayout();
+    }
+
+    /**
+     * Set the time each pulse may spend building the missing overscan cells
+     */
+    public void setPrefetchBudget(Duration prefetchBudget) {
+        this.prefetchBudget = prefetchBudget;
+    }
+
     /**
      * Sets the {@link TargetPosition} used to layout the anchor node and
      * re-lays out the viewport
@@ -147,6 +196,9 @@ final class Navigator<C extends LayoutCell<?>> extends Region
         }
         currentPosition = getCurrentPosition();
         targetPosition = currentPosition;
+        if (overscan > 0 && !cells.isEmpty()) {
+            prefetcher.start();
+        }
     }
 
     // does not re-place the anchor cell
@@ -202,10 +254,12 @@ final class Navigator<C extends LayoutCell<?>> extends Region
         Optional<Double> avgLen = sizeTracker.getAverageLengthEstimate();
         int itemsBefore = avgLen.map(l -> spaceBefore / l)
                                 .orElse(5.0)
-                                .intValue();
+                                .intValue()
+                          + overscan;
         int itemsAfter = avgLen.map(l -> spaceAfter / l)
                                .orElse(5.0)
-                               .intValue();
+                               .intValue()
+                         + overscan;
 
         positioner.cropTo(itemIndex - itemsBefore, itemIndex + 1 + itemsAfter);
     }
@@ -327,7 +381,10 @@ final class Navigator<C extends LayoutCell<?>> extends Region
                                                          .getMinY() >= sizeTracker.getViewportLength()) {
             --last;
         }
-        positioner.cropTo(first, last + 1);
+        viewportFirst = first;
+        viewportLast = last;
+        positioner.cropTo(placeOverscanBefore(first),
+                          placeOverscanAfter(last) + 1);
     }
 
     private TargetPosition getCurrentPosition() {
@@ -355,6 +412,43 @@ final class Navigator<C extends LayoutCell<?>> extends Region
                          // are affected
     }
 
+    /**
+     * Place the built overscan cells after the last cell of the viewport,
+     * answering the index of the last placed cell
+     */
+    private int placeOverscanAfter(int last) {
+        int i = last;
+        int limit = Math.min(last + overscan, cells.size() - 1);
+        while (i < limit && cellListManager.isCellPresent(i + 1)) {
+            Node node = positioner.getVisibleCell(i)
+                                  .getNode();
+            positioner.placeStartAt(++i,
+                                    node.getLayoutY() + node.getLayoutBounds()
+                                                            .getMinY()
+                                         + node.getLayoutBounds()
+                                               .getHeight());
+        }
+        return i;
+    }
+
+    /**
+     * Place the built overscan cells before the first cell of the viewport,
+     * answering the index of the first placed cell
+     */
+    private int placeOverscanBefore(int first) {
+        int i = first;
+        int limit = Math.max(first - overscan, 0);
+        while (i > limit && cellListManager.isCellPresent(i - 1)) {
+            Node node = positioner.getVisibleCell(i)
+                                  .getNode();
+            positioner.placeEndFromStart(--i,
+                                         node.getLayoutY()
+                                              + node.getLayoutBounds()
+                                                    .getMinY());
+        }
+        return i;
+    }
+
     private void placeEndOffEndMayCrop(int itemIndex, double endOffEnd) {
         cropToNeighborhoodOf(itemIndex, endOffEnd);
         positioner.placeEndFromEnd(itemIndex, endOffEnd);
@@ -398,6 +492,31 @@ final class Navigator<C extends LayoutCell<?>> extends Region
         placeToViewport(itemIndex, fromY, toY);
     }
 
+    /**
+     * Build the next missing overscan cells, nearest to the viewport first,
+     * until the prefetch budget of this pulse is spent. The cells are placed by
+     * the layout they request. Answer true if overscan cells remain missing.
+     */
+    private boolean prefetch() {
+        if (viewportFirst < 0 || viewportLast >= cells.size()) {
+            return false;
+        }
+        long deadline = System.nanoTime()
+                        + (long) (prefetchBudget.toMillis() * 1_000_000);
+        for (int d = 1; d <= overscan; d++) {
+            for (int i : new int[] { viewportLast + d, viewportFirst - d }) {
+                if (i >= 0 && i < cells.size()
+                    && !cellListManager.isCellPresent(i)) {
+                    positioner.getSizedCell(i);
+                    if (System.nanoTime() >= deadline) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     private void shiftCellsTowardsGround(int groundCellIndex, int lastCellIndex,
                                          double amount) {
         assert groundCellIndex <= lastCellIndex;
@@ -1,46 +1,25 @@
 package com.chiralbehaviors.layout.flowless;
 
 import java.util.Optional;
-import java.util.function.Function;
 
 import org.reactfx.Subscription;
-import org.reactfx.collection.LiveList;
 import org.reactfx.collection.MemoizationList;
 import org.reactfx.value.Val;
-import org.reactfx.value.ValBase;
 import org.reactfx.value.Var;
 
 import javafx.beans.value.ObservableObjectValue;
 import javafx.geometry.Bounds;
-import javafx.scene.control.IndexRange;
 
 /**
- * Estimates the size of the entire viewport (if it was actually completely
- * rendered) based on the known sizes of the {@link Cell}s whose nodes are
- * currently displayed in the viewport and an estimated average of {@link Cell}s
- * whose nodes are not displayed in the viewport. The meaning of
- * {@link #breadthForCells} and {@link #totalLengthEstimate} are dependent upon
- * which implementation of {@link OrientationHelper} is used.
+ * Tracks the size of the entire viewport (if it was actually completely
+ * rendered) from the lengths of the items, which are the cell length unless
+ * set individually, and are indexed by offset in a {@link LengthIndex}. The
+ * meaning of {@link #breadthForCells} and {@link #totalLengthEstimate} are
+ * dependent upon which implementation of {@link OrientationHelper} is used.
  */
 final class SizeTracker {
-    private static <T> Val<T> avoidFalseInvalidations(Val<T> src) {
-        return new ValBase<T>() {
-            @Override
-            protected T computeValue() {
-                return src.getValue();
-            }
-
-            @Override
-            protected Subscription connect() {
-                return src.observeChanges((obs, oldVal,
-                                           newVal) -> invalidate());
-            }
-        };
-    }
-
     /**
-     * Stores either null or the average length of the cells' nodes currently
-     * displayed in the viewport
+     * Stores the average length of the items
      */
     private final Val<Double>                           averageLengthEstimate;
     /**
@@ -48,19 +27,26 @@ final class SizeTracker {
      * viewport's breadth
      */
     private final Val<Double>                           breadthForCells;
+    private final Var<Double>                           cellBreadth;
+    private final Var<Double>                           cellLength;
     private final MemoizationList<? extends Cell<?, ?>> cells;
+    /**
+     * The lengths of the items, indexed by offset
+     */
+    private final LengthIndex                           index;
 
     private final Val<Double>                           lengthOffsetEstimate;
 
-    private final MemoizationList<Double>               lengths;
-
-    private final Val<Double>                           maxKnownMinBreadth;
+    private final Var<Double>                           maxKnownMinBreadth;
+    /**
+     * Incremented whenever the lengths in the index change
+     */
+    private final Var<Long>                             revision;
 
     private final Subscription                          subscription;
 
     private final Val<Double>                           totalLengthEstimate;
     private final ObservableObjectValue<Bounds>         viewportBounds;
-    private double                                      width, height;
 
     /**
      * Constructs a SizeTracker
@@ -68,24 +54,31 @@ final class SizeTracker {
     public SizeTracker(double breadth, double length,
                        ObservableObjectValue<Bounds> viewportBounds,
                        MemoizationList<? extends Cell<?, ?>> lazyCells) {
-        this.width = breadth;
-        this.height = length;
+        this.cellBreadth = Var.newSimpleVar(breadth);
+        this.cellLength = Var.newSimpleVar(length);
         this.viewportBounds = viewportBounds;
         this.cells = lazyCells;
-        this.maxKnownMinBreadth = Var.newSimpleVar(width);
+        this.maxKnownMinBreadth = Var.newSimpleVar(breadth);
         this.breadthForCells = Val.combine(maxKnownMinBreadth, viewportBounds,
                                            (a, b) -> Math.max(a, b.getWidth()));
 
-        Val<Function<Cell<?, ?>, Double>> lengthFn = avoidFalseInvalidations(breadthForCells).map(m -> cell -> height);
-
-        this.lengths = cells.mapDynamic(lengthFn)
-                            .memoize();
+        this.index = new LengthIndex(length);
+        index.replace(0, 0, cells.size());
+        this.revision = Var.newSimpleVar(0L);
+        Subscription modifications = cells.observeQuasiModifications(mod -> {
+            index.replace(mod.getFrom(), mod.getRemovedSize(),
+                          mod.getAddedSize());
+            revise();
+        });
 
-        LiveList<Double> knownLengths = this.lengths.memoizedItems();
+        this.totalLengthEstimate = Val.combine(cellLength, revision,
+                                               (h, r) -> index.total());
 
-        this.averageLengthEstimate = Val.constant(height);
-
-        this.totalLengthEstimate = Val.constant(height * cells.size());
+        this.averageLengthEstimate = Val.combine(cellLength, revision,
+                                                 (h,
+                                                  r) -> index.size() == 0 ? h
+                                                                          : index.total()
+                                                                            / index.size());
 
         Val<Integer> firstVisibleIndex = Val.create(() -> cells.getMemoizedCount() == 0 ? null
                                                                                         : cells.indexOfMemoizedItem(0),
@@ -98,28 +91,10 @@ final class SizeTracker {
                                                           .collapse(visCells -> visCells.isEmpty() ? null
                                                                                                    : visCells.get(0));
 
-        Val<Integer> knownLengthCountBeforeFirstVisibleCell = Val.create(() -> {
-            return firstVisibleIndex.getOpt()
-                                    .map(i -> lengths.getMemoizedCountBefore(Math.min(i,
-                                                                                      lengths.size())))
-                                    .orElse(0);
-        }, lengths, firstVisibleIndex);
-
-        Val<Double> totalKnownLengthBeforeFirstVisibleCell = knownLengths.reduceRange(knownLengthCountBeforeFirstVisibleCell.map(n -> new IndexRange(0,
-                                                                                                                                                     n)),
-                                                                                      (a,
-                                                                                       b) -> a
-                                                                                             + b)
-                                                                         .orElseConst(0.0);
-
-        Val<Double> unknownLengthEstimateBeforeFirstVisibleCell = Val.combine(firstVisibleIndex,
-                                                                              knownLengthCountBeforeFirstVisibleCell,
-                                                                              averageLengthEstimate,
-                                                                              (firstIdx,
-                                                                               knownCnt,
-                                                                               avgLen) -> (firstIdx
-                                                                                           - knownCnt)
-                                                                                          * avgLen);
+        Val<Double> lengthBeforeFirstVisibleCell = Val.combine(firstVisibleIndex,
+                                                               totalLengthEstimate,
+                                                               (firstIdx,
+                                                                total) -> index.offset(firstIdx));
 
         Val<Double> firstCellMinY = firstVisibleCell.flatMap(node -> Val.combine(node.getNode()
                                                                                      .layoutYProperty(),
@@ -129,15 +104,15 @@ final class SizeTracker {
                                                                                   layoutBounds) -> layoutY.doubleValue()
                                                                                                    + layoutBounds.getMinY()));
 
-        lengthOffsetEstimate = Val.combine(totalKnownLengthBeforeFirstVisibleCell,
-                                           unknownLengthEstimateBeforeFirstVisibleCell,
+        lengthOffsetEstimate = Val.combine(lengthBeforeFirstVisibleCell,
                                            firstCellMinY,
-                                           (a, b, minY) -> a + b - minY)
+                                           (before, minY) -> before - minY)
                                   .orElseConst(0.0);
 
         // pinning totalLengthEstimate and lengthOffsetEstimate
         // binds it all together and enables memoization
-        this.subscription = Subscription.multi(() -> totalLengthEstimate.getValue(),
+        this.subscription = Subscription.multi(modifications,
+                                               () -> totalLengthEstimate.getValue(),
                                                () -> lengthOffsetEstimate.getValue());
     }
 
@@ -146,7 +121,7 @@ final class SizeTracker {
     }
 
     public double breadthFor(int itemIndex) {
-        return width;
+        return cellBreadth.getValue();
     }
 
     public void dispose() {
@@ -162,7 +137,7 @@ final class SizeTracker {
     }
 
     public double getCellLength() {
-        return height;
+        return cellLength.getValue();
     }
 
     public double getViewportBreadth() {
@@ -175,8 +150,23 @@ final class SizeTracker {
                              .getHeight();
     }
 
+    /**
+     * Reset the lengths of all the items to the cell length
+     */
+    public void clearLengths() {
+        index.clear();
+        revise();
+    }
+
+    /**
+     * Answer the index of the item at the offset from the start of the items
+     */
+    public int indexAt(double offset) {
+        return index.indexAt(offset);
+    }
+
     public double lengthFor(int itemIndex) {
-        return lengths.get(itemIndex);
+        return index.length(itemIndex);
     }
 
     public Val<Double> lengthOffsetEstimateProperty() {
@@ -187,7 +177,44 @@ final class SizeTracker {
         return maxKnownMinBreadth;
     }
 
+    /**
+     * Answer the offset of the item from the start of the items
+     */
+    public double offsetOf(int itemIndex) {
+        return index.offset(itemIndex);
+    }
+
+    /**
+     * Resize the cells to the breadth and length
+     */
+    public void resize(double breadth, double length) {
+        cellBreadth.setValue(breadth);
+        maxKnownMinBreadth.setValue(breadth);
+        index.setCellLength(length);
+        cellLength.setValue(length);
+    }
+
+    /**
+     * Set the length of the item, which is otherwise the cell length
+     */
+    public void setLength(int itemIndex, double length) {
+        index.setLength(itemIndex, length);
+        revise();
+    }
+
+    /**
+     * Set the lengths of the items from the index, revising the estimates once
+     */
+    public void setLengths(int from, double[] lengths) {
+        index.setLengths(from, lengths);
+        revise();
+    }
+
     public Val<Double> totalLengthEstimateProperty() {
         return totalLengthEstimate;
     }
+
+    private void revise() {
+        revision.setValue(revision.getValue() + 1);
+    }
 }
\ No newline at end of file
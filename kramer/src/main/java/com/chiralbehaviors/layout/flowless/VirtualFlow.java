@@ -9,12 +9,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.reactfx.collection.MemoizationList;
 import org.reactfx.util.Lists;
 import org.reactfx.value.Val;
 import org.reactfx.value.Var;
 
+import com.chiralbehaviors.layout.KeyedDiff;
 import com.chiralbehaviors.layout.cell.AnchorCell;
 import com.chiralbehaviors.layout.cell.Hit;
 import com.chiralbehaviors.layout.cell.LayoutCell;
@@ -26,7 +28,7 @@ import com.chiralbehaviors.layout.cell.control.MultipleCellSelection;
 import com.chiralbehaviors.layout.cell.control.SelectionEvent;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import javafx.collections.FXCollections;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
@@ -35,6 +37,7 @@ import javafx.geometry.Orientation;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
 import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
 
 /**
  * A VirtualFlow is a memory-efficient viewport that only renders enough of its
@@ -230,7 +233,7 @@ public class VirtualFlow<C extends LayoutCell<?>>
     }
 
     public VirtualFlow(String styleSheet) {
-        this(styleSheet, 0, 0, FXCollections.observableArrayList(),
+        this(styleSheet, 0, 0, new ItemList(),
              (n, f) -> null, null, Collections.emptyList());
     }
 
@@ -239,6 +242,23 @@ public class VirtualFlow<C extends LayoutCell<?>>
                        BiFunction<JsonNode, FocusTraversalNode<C>, C> factory,
                        FocusTraversal<?> parentTraversal,
                        List<String> styleSheets) {
+        this(styleSheet, cellBreadth, cellLength, observableList, factory,
+             null, parentTraversal, styleSheets);
+    }
+
+    /**
+     * Constructs a flow whose released cells are pooled in the shared pool,
+     * or in a pool of its own if the shared pool is null. Cells the flow
+     * reuses from a shared pool may have been built by another flow, and are
+     * {@link #adopt(LayoutCell) adopted} before they are updated.
+     */
+    protected VirtualFlow(String styleSheet, double cellBreadth,
+                          double cellLength,
+                          ObservableList<JsonNode> observableList,
+                          BiFunction<JsonNode, FocusTraversalNode<C>, C> factory,
+                          CellPool<C> sharedPool,
+                          FocusTraversal<?> parentTraversal,
+                          List<String> styleSheets) {
         super(styleSheet);
         this.getStyleClass()
             .add(VIRTUAL_FLOW);
@@ -251,7 +271,8 @@ public class VirtualFlow<C extends LayoutCell<?>>
         focus = focusTraversalFor(parentTraversal);
         this.cellListManager = new CellListManager<C>(observableList,
                                                       item -> factory.apply(item,
-                                                                            focus));
+                                                                            focus),
+                                                      sharedPool, this::adopt);
         MemoizationList<C> cells = cellListManager.getLazyCellList();
         this.sizeTracker = new SizeTracker(cellBreadth, cellLength,
                                            layoutBoundsProperty(), cells);
@@ -274,6 +295,16 @@ public class VirtualFlow<C extends LayoutCell<?>>
         focus.setCurrent();
     }
 
+    /**
+     * Append the rows to the items of the flow, which only builds the cells of
+     * the appended rows that are visible
+     */
+    @Override
+    public boolean appendItems(List<JsonNode> rows) {
+        items.addAll(rows);
+        return true;
+    }
+
     public Hit<C> cellHit(int cellIndex, C cell, double x, double y) {
         return new CellHit<>(cellIndex, cell, new Point2D(x, y));
     }
@@ -316,6 +347,13 @@ public class VirtualFlow<C extends LayoutCell<?>>
         return cellPositioner.getSizedCell(itemIndex);
     }
 
+    /**
+     * Answer the pool of the cells released by the flow for reuse
+     */
+    public CellPool<C> getCellPool() {
+        return cellListManager.getCellPool();
+    }
+
     /**
      * This method calls {@link #layout()} as a side-effect to insure that the
      * VirtualFlow is up-to-date in light of any changes
@@ -349,6 +387,17 @@ public class VirtualFlow<C extends LayoutCell<?>>
         return items;
     }
 
+    /**
+     * Answer the number of cells kept built beyond each edge of the viewport
+     */
+    public int getOverscan() {
+        return navigator.getOverscan();
+    }
+
+    public Duration getPrefetchBudget() {
+        return navigator.getPrefetchBudget();
+    }
+
     public MultipleCellSelection<JsonNode, C> getSelectionModel() {
         return selectionModel;
     }
@@ -443,6 +492,19 @@ public class VirtualFlow<C extends LayoutCell<?>>
         return lengthOffsetEstimate;
     }
 
+    /**
+     * Fill the cell pool with up to the count of cells in a later run of the FX
+     * thread, so that the first scroll of the flow reuses cells rather than
+     * creating them
+     */
+    public void prewarmCells(int count) {
+        Platform.runLater(() -> {
+            if (!items.isEmpty()) {
+                cellListManager.prewarm(count, items.get(0));
+            }
+        });
+    }
+
     public void scrollDown() {
         scrollYBy(sizeTracker.getCellLength());
     }
@@ -471,6 +533,23 @@ public class VirtualFlow<C extends LayoutCell<?>>
         this.setLengthOffset(pixel);
     }
 
+    /**
+     * Set the number of cells kept built beyond each edge of the viewport, so
+     * that scrolling reaches cells that are already built. The missing cells
+     * are built in the pulses after a layout, within the prefetch budget of
+     * each pulse.
+     */
+    public void setOverscan(int overscan) {
+        navigator.setOverscan(overscan);
+    }
+
+    /**
+     * Set the time each pulse may spend building the missing overscan cells
+     */
+    public void setPrefetchBudget(Duration prefetchBudget) {
+        navigator.setPrefetchBudget(prefetchBudget);
+    }
+
     /**
      * Forces the viewport to acts as though it scrolled from 0 to
      * {@code viewportOffset}). <em>Note:</em> the viewport makes an educated
@@ -547,6 +626,24 @@ public class VirtualFlow<C extends LayoutCell<?>>
         return sizeTracker.totalLengthEstimateProperty();
     }
 
+    /**
+     * Update the items to the rows. If the key is not null, the items are
+     * matched to the rows by their keys, so that the cells of the items that
+     * are unchanged are kept, and only the items inserted, removed, moved or
+     * changed are replaced; otherwise all the items are replaced. The edits of
+     * an {@link ItemList} are reported as a single change.
+     */
+    public void updateItems(List<JsonNode> rows,
+                            Function<? super JsonNode, ?> key) {
+        if (key == null) {
+            items.setAll(rows);
+        } else if (items instanceof ItemList) {
+            ((ItemList) items).batch(() -> KeyedDiff.apply(items, rows, key));
+        } else {
+            KeyedDiff.apply(items, rows, key);
+        }
+    }
+
     /**
      * This method calls {@link #layout()} as a side-effect to insure that the
      * VirtualFlow is up-to-date in light of any changes
@@ -595,6 +692,52 @@ public class VirtualFlow<C extends LayoutCell<?>>
         }
     }
 
+    /**
+     * Adopt the cell, built by another flow sharing this flow's cell pool, as
+     * a cell of this flow
+     */
+    protected void adopt(C cell) {
+    }
+
+    /**
+     * Reset the lengths of all the items to the cell length
+     */
+    protected void clearItemLengths() {
+        sizeTracker.clearLengths();
+        navigator.requestLayout();
+        requestLayout();
+    }
+
+    /**
+     * Resize the cells of the flow and re-justify the present and pooled cells
+     * to their layouts
+     */
+    protected void resizeCells(double cellBreadth, double cellLength) {
+        sizeTracker.resize(cellBreadth, cellLength);
+        cellListManager.forEachCell(cell -> cell.rejustify());
+        navigator.requestLayout();
+        requestLayout();
+    }
+
+    /**
+     * Set the length of the item, which is otherwise the cell length
+     */
+    protected void setItemLength(int itemIndex, double length) {
+        sizeTracker.setLength(itemIndex, length);
+        navigator.requestLayout();
+        requestLayout();
+    }
+
+    /**
+     * Set the lengths of the items from the index at once, which revises the
+     * length estimates and requests a layout once rather than per item
+     */
+    protected void setItemLengths(int from, double[] lengths) {
+        sizeTracker.setLengths(from, lengths);
+        navigator.requestLayout();
+        requestLayout();
+    }
+
     void scrollLength(double deltaLength) {
         setLengthOffset(lengthOffsetEstimate.getValue() + deltaLength);
     }
@@ -679,14 +822,13 @@ public class VirtualFlow<C extends LayoutCell<?>>
             return;
         }
 
-        // guess the first visible cell and its offset in the viewport
-        double avgLen = sizeTracker.getAverageLengthEstimate()
-                                   .orElse(0.0);
-        if (avgLen == 0.0) {
+        // the first visible cell and its offset in the viewport
+        if (sizeTracker.totalLengthEstimateProperty()
+                       .getValue() == 0.0) {
             return;
         }
-        int first = (int) Math.floor(pixels / avgLen);
-        double firstOffset = -(pixels % avgLen);
+        int first = sizeTracker.indexAt(pixels);
+        double firstOffset = -(pixels - sizeTracker.offsetOf(first));
 
         if (first < items.size()) {
             navigator.setTargetPosition(new StartOffStart(first, firstOffset));
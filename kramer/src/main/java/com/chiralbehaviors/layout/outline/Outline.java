@@ -23,22 +23,24 @@ import java.util.List;
 import com.chiralbehaviors.layout.ColumnSet;
 import com.chiralbehaviors.layout.RelationLayout;
 import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.flowless.ItemList;
 import com.chiralbehaviors.layout.flowless.VirtualFlow;
 import com.chiralbehaviors.layout.schema.SchemaNode;
 import com.chiralbehaviors.layout.style.Style;
 import com.chiralbehaviors.layout.style.RelationStyle;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import javafx.collections.FXCollections;
-
 /**
  * @author halhildebrand
  *
  */
 public class Outline extends VirtualFlow<OutlineCell> {
-    private static final String DEFAULT_STYLE         = "outline";
-    private static final String SCHEMA_CLASS_TEMPLATE = "%s-outline";
-    private static final String STYLE_SHEET           = "outline.css";
+    private static final String  DEFAULT_STYLE         = "outline";
+    private static final String  SCHEMA_CLASS_TEMPLATE = "%s-outline";
+    private static final String  STYLE_SHEET           = "outline.css";
+
+    private final RelationLayout layout;
+    private final RelationStyle  style;
 
     public Outline(double width, double cellHeight,
                    Collection<ColumnSet> columnSets, int averageCardinality,
@@ -46,7 +48,7 @@ public class Outline extends VirtualFlow<OutlineCell> {
                    Style model, RelationStyle style, double labelWidth) {
         super(STYLE_SHEET, width + style.getOutlineCellHorizontalInset(),
               cellHeight + style.getOutlineCellVerticalInset(),
-              FXCollections.observableArrayList(), (item, pt) -> {
+              new ItemList(), (item, pt) -> {
                   OutlineCell outlineCell = new OutlineCell(columnSets,
                                                             averageCardinality,
                                                             layout, pt, model,
@@ -56,6 +58,8 @@ public class Outline extends VirtualFlow<OutlineCell> {
               }, parentTraversal,
               Arrays.asList(DEFAULT_STYLE, String.format(SCHEMA_CLASS_TEMPLATE,
                                                          layout.getField())));
+        this.layout = layout;
+        this.style = style;
         model.apply(this, layout.getNode());
     }
 
@@ -63,6 +67,8 @@ public class Outline extends VirtualFlow<OutlineCell> {
         super(STYLE_SHEET);
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE, field));
+        this.layout = null;
+        this.style = null;
     }
 
     @Override
@@ -72,10 +78,17 @@ public class Outline extends VirtualFlow<OutlineCell> {
         focus.unbind();
     }
 
+    @Override
+    public void rejustify() {
+        resizeCells(layout.getJustifiedWidth()
+                    + style.getOutlineCellHorizontalInset(),
+                    layout.getCellHeight() + style.getOutlineCellVerticalInset());
+    }
+
     @Override
     public void updateItem(JsonNode item) {
         List<JsonNode> list = SchemaNode.asList(item);
-        items.setAll(list);
+        updateItems(list, layout == null ? null : layout.rowIdentity());
         pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
         pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
     }
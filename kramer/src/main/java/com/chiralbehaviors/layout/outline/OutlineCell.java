@@ -18,6 +18,7 @@ package com.chiralbehaviors.layout.outline;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import com.chiralbehaviors.layout.ColumnSet;
@@ -45,6 +46,7 @@ public class OutlineCell extends VerticalCell<OutlineCell>
     private static final String                         SCHEMA_CLASS_TEMPLATE = "%s-outline-cell";
     private static final String                         STYLE_SHEET           = "outline-cell.css";
 
+    private final Collection<ColumnSet>                  columnSets;
     private final FocusTraversal<Span>                  focus;
     private int                                         index;
     private final MouseHandler                          mouseHandler;
@@ -54,7 +56,7 @@ public class OutlineCell extends VerticalCell<OutlineCell>
     public OutlineCell(Collection<ColumnSet> columnSets, int childCardinality,
                        RelationLayout layout, FocusTraversal<OutlineCell> pt,
                        Style model, RelationStyle style, double labelWidth) {
-        this(layout.getField(), pt);
+        this(layout.getField(), pt, columnSets);
         columnSets.forEach(cs -> {
             Span span = new Span(childCardinality, layout, labelWidth, cs,
                                  focus, model, style);
@@ -69,7 +71,13 @@ public class OutlineCell extends VerticalCell<OutlineCell>
     }
 
     public OutlineCell(String field, FocusTraversal<OutlineCell> parent) {
+        this(field, parent, null);
+    }
+
+    private OutlineCell(String field, FocusTraversal<OutlineCell> parent,
+                        Collection<ColumnSet> columnSets) {
         super(STYLE_SHEET);
+        this.columnSets = columnSets;
         initialize(OUTLINE_CELL_CLASS);
         getStyleClass().addAll(String.format(SCHEMA_CLASS_TEMPLATE, field));
         selectionModel = buildSelectionModel(i -> null, () -> spans.size(),
@@ -114,6 +122,17 @@ public class OutlineCell extends VerticalCell<OutlineCell>
         return hit(x, y, spans);
     }
 
+    /**
+     * Re-justify the spans to the column sets of the current plan, which are
+     * partitioned as the column sets the spans were built from
+     */
+    @Override
+    public void rejustify() {
+        Iterator<Span> span = spans.iterator();
+        columnSets.forEach(cs -> span.next()
+                                     .rejustify(cs));
+    }
+
     @Override
     public void updateIndex(int index) {
         boolean active = ((index % 2) == 0);
@@ -68,9 +68,7 @@ public class OutlineColumn extends VerticalCell<OutlineColumn>
              fields.add(item -> cell.updateItem(f.extractFrom(item)));
              getChildren().add(cell.getNode());
          });
-        setMinWidth(c.getWidth());
-        setPrefWidth(c.getWidth());
-        setMaxWidth(c.getWidth());
+        size(c);
     }
 
     public OutlineColumn(String field,
@@ -120,6 +118,11 @@ public class OutlineColumn extends VerticalCell<OutlineColumn>
         return hit(x, y, elements);
     }
 
+    public void rejustify(Column c) {
+        elements.forEach(e -> e.rejustify());
+        size(c);
+    }
+
     @Override
     public void updateIndex(int index) {
         this.index = index;
@@ -129,4 +132,10 @@ public class OutlineColumn extends VerticalCell<OutlineColumn>
     public void updateItem(JsonNode item) {
         fields.forEach(m -> m.accept(item));
     }
+
+    private void size(Column c) {
+        setMinWidth(c.getWidth());
+        setPrefWidth(c.getWidth());
+        setMaxWidth(c.getWidth());
+    }
 }
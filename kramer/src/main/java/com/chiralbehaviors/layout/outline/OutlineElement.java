@@ -19,6 +19,7 @@ package com.chiralbehaviors.layout.outline;
 import java.util.Collection;
 import java.util.Collections;
 
+import com.chiralbehaviors.layout.LayoutControls;
 import com.chiralbehaviors.layout.SchemaNodeLayout;
 import com.chiralbehaviors.layout.cell.Hit;
 import com.chiralbehaviors.layout.cell.HorizontalCell;
@@ -46,6 +47,8 @@ public class OutlineElement extends HorizontalCell<OutlineElement>
 
     private final LayoutCell<?>                  cell;
     private int                                  index;
+    private final Label                          label;
+    private final SchemaNodeLayout               layout;
     private final FocusTraversal<OutlineElement> parentTraversal;
 
     public OutlineElement(SchemaNodeLayout layout, String field,
@@ -56,7 +59,9 @@ public class OutlineElement extends HorizontalCell<OutlineElement>
         super(STYLE_SHEET);
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE, field));
-        this.cell = layout.buildControl(parentTraversal, model);
+        this.cell = LayoutControls.buildControl(layout, parentTraversal,
+                                                model);
+        this.layout = layout;
         this.parentTraversal = parentTraversal;
         OutlineElement node = getNode();
         node.focusedProperty()
@@ -66,13 +71,8 @@ public class OutlineElement extends HorizontalCell<OutlineElement>
                 }
             });
 
-        cell.getNode()
-            .setMinHeight(elementHeight);
-        cell.getNode()
-            .setPrefHeight(elementHeight);
-        cell.getNode()
-            .setMaxHeight(elementHeight);
-        Label label = layout.label(labelWidth, elementHeight);
+        size(elementHeight);
+        label = LayoutControls.label(layout, labelWidth, elementHeight);
         getChildren().addAll(label, cell.getNode());
 
     }
@@ -82,6 +82,8 @@ public class OutlineElement extends HorizontalCell<OutlineElement>
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE, field));
         this.cell = null;
+        this.label = null;
+        this.layout = null;
         this.parentTraversal = null;
     }
 
@@ -155,6 +157,16 @@ public class OutlineElement extends HorizontalCell<OutlineElement>
                    .contains(new Point2D(x, y)) ? hit : null;
     }
 
+    @Override
+    public void rejustify() {
+        double elementHeight = layout.getHeight();
+        cell.rejustify();
+        size(elementHeight);
+        label.setMinHeight(elementHeight);
+        label.setPrefHeight(elementHeight);
+        label.setMaxHeight(elementHeight);
+    }
+
     @Override
     public void updateIndex(int index) {
         this.index = index;
@@ -166,4 +178,13 @@ public class OutlineElement extends HorizontalCell<OutlineElement>
         getNode().pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
         getNode().pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
     }
+
+    private void size(double elementHeight) {
+        cell.getNode()
+            .setMinHeight(elementHeight);
+        cell.getNode()
+            .setPrefHeight(elementHeight);
+        cell.getNode()
+            .setMaxHeight(elementHeight);
+    }
 }
@@ -18,6 +18,7 @@ package com.chiralbehaviors.layout.outline;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import com.chiralbehaviors.layout.ColumnSet;
@@ -116,6 +117,13 @@ public class Span extends HorizontalCell<Span>
         return hit(x, y, columns);
     }
 
+    public void rejustify(ColumnSet columnSet) {
+        Iterator<OutlineColumn> column = columns.iterator();
+        columnSet.getColumns()
+                 .forEach(c -> column.next()
+                                     .rejustify(c));
+    }
+
     @Override
     public void updateIndex(int index) {
         this.index = index;
@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.style;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.geometry.Bounds;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextBoundsType;
+
+/**
+ * Text width measurement for a single font, computed from cached per glyph
+ * advances and ink extents rather than by laying out a {@link Text} node for
+ * every string. The width of a string is the width of the union of the ink of
+ * its glyphs, clipped to the logical bounds of the text, which is what
+ * intersecting the text shape with its bounds rectangle produces.
+ * <p>
+ * Glyphs are measured once, when first seen, and the measurement is
+ * serialized; every other lookup is plain arithmetic and may be done from any
+ * thread. Strings the glyph model cannot represent faithfully (combining
+ * marks, surrogate pairs, tabs and other layout dependent characters) fall
+ * back to laying out the text.
+ *
+ * @author halhildebrand
+ *
+ */
+public final class FontMetrics implements TextMetrics {
+
+    private static class Glyph {
+        private final double advance;
+        private final double inkMaxX;
+        private final double inkMinX;
+
+        private Glyph(double advance, double inkMinX, double inkMaxX) {
+            this.advance = advance;
+            this.inkMinX = inkMinX;
+            this.inkMaxX = inkMaxX;
+        }
+
+        private boolean hasInk() {
+            return inkMaxX > inkMinX;
+        }
+    }
+
+    /**
+     * The number of the most recently measured strings whose widths are cached
+     * per font
+     */
+    private static final int                    CACHE_SIZE   = 4096;
+    private static final int                    LATIN_1      = 256;
+    private static final Object                 MEASURE_LOCK = new Object();
+    private static final Map<Font, FontMetrics> METRICS      = new ConcurrentHashMap<>();
+
+    /**
+     * Answer the shared metrics for the font
+     */
+    public static FontMetrics forFont(Font font) {
+        return METRICS.computeIfAbsent(font, f -> new FontMetrics(f));
+    }
+
+    /**
+     * Measure the text by laying it out, the reference against which the
+     * cached metrics are computed
+     */
+    public static double layoutWidth(String string, Font font) {
+        synchronized (MEASURE_LOCK) {
+            Text text = new Text(string);
+            text.setFont(font);
+            Bounds tb = text.getBoundsInLocal();
+            return Shape.intersect(text,
+                                   new Rectangle(tb.getMinX(), tb.getMinY(),
+                                                 tb.getWidth(),
+                                                 tb.getHeight()))
+                        .getBoundsInLocal()
+                        .getWidth();
+        }
+    }
+
+    private static boolean isSimple(char c) {
+        if (c == '\n') {
+            return true;
+        }
+        if (c < ' ' || Character.isSurrogate(c)) {
+            return false;
+        }
+        switch (Character.getType(c)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.FORMAT:
+            case Character.CONTROL:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private final Font                          font;
+    private final Map<Character, Glyph>         glyphs = new ConcurrentHashMap<>();
+    private final Glyph[]                       latin1 = new Glyph[LATIN_1];
+    private final LinkedHashMap<String, Double> widths;
+
+    private FontMetrics(Font font) {
+        this.font = font;
+        widths = new LinkedHashMap<String, Double>(64, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        for (char c = ' '; c < '\u007F'; c++) {
+            glyph(c);
+        }
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * Answer the width of the string, equivalent to
+     * {@link #layoutWidth(String, Font)}
+     */
+    @Override
+    public double width(String string) {
+        if (string == null || string.isEmpty()) {
+            return 0.0;
+        }
+        synchronized (widths) {
+            Double cached = widths.get(string);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        double width = compute(string);
+        synchronized (widths) {
+            widths.put(string, width);
+        }
+        return width;
+    }
+
+    private double compute(String string) {
+        int length = string.length();
+        for (int i = 0; i < length; i++) {
+            if (!isSimple(string.charAt(i))) {
+                return layoutWidth(string, font);
+            }
+        }
+        double logicalWidth = 0.0;
+        double inkMinX = Double.POSITIVE_INFINITY;
+        double inkMaxX = Double.NEGATIVE_INFINITY;
+        double x = 0.0;
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c == '\n') {
+                logicalWidth = Math.max(logicalWidth, x);
+                x = 0.0;
+                continue;
+            }
+            Glyph glyph = glyph(c);
+            if (glyph.hasInk()) {
+                inkMinX = Math.min(inkMinX, x + glyph.inkMinX);
+                inkMaxX = Math.max(inkMaxX, x + glyph.inkMaxX);
+            }
+            x += glyph.advance;
+        }
+        logicalWidth = Math.max(logicalWidth, x);
+        if (inkMaxX <= inkMinX) {
+            return layoutWidth(string, font);
+        }
+        return Math.max(0.0, Math.min(logicalWidth, inkMaxX)
+                             - Math.max(0.0, inkMinX));
+    }
+
+    private Glyph glyph(char c) {
+        if (c < LATIN_1) {
+            Glyph glyph = latin1[c];
+            if (glyph == null) {
+                glyph = measure(c);
+                latin1[c] = glyph;
+            }
+            return glyph;
+        }
+        return glyphs.computeIfAbsent(c, k -> measure(k));
+    }
+
+    private Glyph measure(char c) {
+        synchronized (MEASURE_LOCK) {
+            Text text = new Text(String.valueOf(c));
+            text.setFont(font);
+            double advance = text.getLayoutBounds()
+                                 .getWidth();
+            text.setBoundsType(TextBoundsType.VISUAL);
+            Bounds ink = text.getLayoutBounds();
+            if (ink.isEmpty() || ink.getWidth() <= 0.0) {
+                return new Glyph(advance, 0.0, 0.0);
+            }
+            return new Glyph(advance, ink.getMinX(), ink.getMaxX());
+        }
+    }
+}
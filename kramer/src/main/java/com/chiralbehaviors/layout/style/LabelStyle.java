@@ -31,7 +31,7 @@ import javafx.scene.text.TextBoundsType;
  * @author halhildebrand
  *
  */
-public class LabelStyle {
+public class LabelStyle implements LabelMetrics {
     public static final String LAYOUT_LABEL = "layout-label";
 
     private static double getLineHeight(Font font, TextBoundsType boundsType) {
@@ -45,9 +45,10 @@ public class LabelStyle {
                     .getHeight();
     }
 
-    private final Font   font;
-    private final Insets insets;
-    private final double lineHeight;
+    private final Font        font;
+    private final Insets      insets;
+    private final double      lineHeight;
+    private final FontMetrics metrics;
 
     public LabelStyle(Label label) {
         Insets lInsets = Style.add(label.getInsets() , label.getPadding());
@@ -55,8 +56,10 @@ public class LabelStyle {
         lineHeight = getLineHeight(label.getFont(),
                                    TextBoundsType.LOGICAL_VERTICAL_CENTER);
         font = label.getFont();
+        metrics = FontMetrics.forFont(font);
     }
 
+    @Override
     public double getHeight() {
         return lineHeight + insets.getTop() + insets.getBottom();
     }
@@ -77,8 +80,9 @@ public class LabelStyle {
         return label;
     }
 
+    @Override
     public double width(String text) {
-        return Style.textWidth(text, font) + insets.getLeft()
+        return metrics.width(text) + insets.getLeft()
                + insets.getRight();
     }
 }
@@ -41,7 +41,8 @@ import javafx.util.Duration;
  * @author halhildebrand
  *
  */
-abstract public class PrimitiveStyle extends NodeStyle {
+abstract public class PrimitiveStyle extends NodeStyle
+        implements PrimitiveMetrics {
 
     abstract public class PrimitiveLayoutCell<C extends Region>
             implements LayoutCell<C> {
@@ -160,6 +161,14 @@ abstract public class PrimitiveStyle extends NodeStyle {
                     return true;
                 }
 
+                @Override
+                public void rejustify() {
+                    label.setMinSize(p.getJustifiedWidth(), p.getCellHeight());
+                    label.setPrefSize(p.getJustifiedWidth(),
+                                      p.getCellHeight());
+                    label.setMaxSize(p.getJustifiedWidth(), p.getCellHeight());
+                }
+
                 @Override
                 public void updateItem(JsonNode item) {
                     super.updateItem(item);
@@ -169,10 +178,12 @@ abstract public class PrimitiveStyle extends NodeStyle {
 
         }
 
+        @Override
         public double getHeight(double maxWidth, double justified) {
             return primitiveStyle.getHeight(Math.ceil((maxWidth / justified)));
         }
 
+        @Override
         public double width(JsonNode row) {
             return primitiveStyle.width(Style.toString(row))
                    + primitiveStyle.getHorizontalInset();
@@ -190,11 +201,14 @@ abstract public class PrimitiveStyle extends NodeStyle {
     abstract public LayoutCell<?> build(FocusTraversal<?> pt,
                                         PrimitiveLayout p);
 
+    @Override
     abstract public double getHeight(double maxWidth, double justified);
 
+    @Override
     public double getListVerticalInset() {
         return listInsets.getTop() + listInsets.getBottom();
     }
 
+    @Override
     abstract public double width(JsonNode row);
 }
@@ -16,6 +16,7 @@
 
 package com.chiralbehaviors.layout.style;
 
+import com.chiralbehaviors.layout.Indentation;
 import com.chiralbehaviors.layout.outline.Outline;
 import com.chiralbehaviors.layout.outline.OutlineCell;
 import com.chiralbehaviors.layout.outline.OutlineColumn;
@@ -31,7 +32,7 @@ import javafx.geometry.Insets;
  * @author halhildebrand
  *
  */
-public class RelationStyle extends NodeStyle {
+public class RelationStyle extends NodeStyle implements RelationInsets {
 
     private final Insets column;
     private final Insets element;
@@ -59,54 +60,68 @@ public class RelationStyle extends NodeStyle {
         nestedInsets = Style.add(this.row, this.rowCell);
     }
 
+    @Override
     public double getColumnHorizontalInset() {
         return column.getLeft() + column.getRight();
     }
 
+    @Override
     public double getColumnVerticalInset() {
         return column.getTop() + column.getBottom();
     }
 
+    @Override
     public double getElementHorizontalInset() {
         return element.getLeft() + element.getRight();
     }
 
+    @Override
     public double getElementVerticalInset() {
         return element.getTop() + element.getBottom();
     }
 
+    @Override
     public double getNestedHorizontalInset() {
         return nestedInsets.getLeft() + nestedInsets.getRight();
     }
 
-    public Insets getNestedInsets() {
-        return nestedInsets;
+    @Override
+    public Indentation getNestedIndentation() {
+        return new Indentation(nestedInsets.getLeft(),
+                               nestedInsets.getRight());
     }
 
+    @Override
     public double getOutlineVerticalInset() {
         return outline.getTop() + outline.getBottom();
     }
 
+    @Override
     public double getOutlineCellHorizontalInset() {
         return outlineCell.getTop() + outlineCell.getBottom();
     }
 
+    @Override
     public double getOutlineCellVerticalInset() {
         return outlineCell.getTop() + outlineCell.getBottom();
     }
 
+    @Override
     public double getOutlineHorizontalInset() {
         return outline.getLeft() + outline.getRight();
     }
 
+    @Override
     public double getRowCellHorizontalInset() {
         return rowCell.getLeft() + rowCell.getRight();
     }
 
+    @Override
     public double getRowCellVerticalInset() {
         return rowCell.getTop() + rowCell.getBottom();
     }
 
+    @Override
     public double getRowHorizontalInset() {
         return row.getLeft() + row.getRight();
     }
@@ -115,14 +130,17 @@ public class RelationStyle extends NodeStyle {
         return row;
     }
 
+    @Override
     public double getRowVerticalInset() {
         return row.getTop() + row.getBottom();
     }
 
+    @Override
     public double getSpanHorizontalInset() {
         return span.getLeft() + span.getRight();
     }
 
+    @Override
     public double getSpanVerticalInset() {
         return span.getTop() + span.getBottom();
     }
@@ -135,6 +153,7 @@ public class RelationStyle extends NodeStyle {
         return table;
     }
 
+    @Override
     public double getTableVerticalInset() {
         return table.getTop() + table.getBottom();
     }
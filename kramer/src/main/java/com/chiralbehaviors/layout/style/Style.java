@@ -17,14 +17,25 @@
 package com.chiralbehaviors.layout.style;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import com.chiralbehaviors.layout.LayoutLabel;
+import com.chiralbehaviors.layout.LayoutModel;
 import com.chiralbehaviors.layout.PrimitiveLayout;
 import com.chiralbehaviors.layout.RelationLayout;
+import com.chiralbehaviors.layout.SamplingPolicy;
 import com.chiralbehaviors.layout.SchemaNodeLayout;
 import com.chiralbehaviors.layout.cell.LayoutCell;
 import com.chiralbehaviors.layout.cell.PrimitiveList;
+import com.chiralbehaviors.layout.flowless.CellPool;
 import com.chiralbehaviors.layout.flowless.VirtualFlow;
 import com.chiralbehaviors.layout.outline.Outline;
 import com.chiralbehaviors.layout.outline.OutlineCell;
@@ -42,17 +53,123 @@ import com.chiralbehaviors.layout.table.NestedTable;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
-import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.Shape;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 
-public class Style {
+public class Style implements LayoutModel {
+
+    /**
+     * The identity of a probed style: the kind of schema node, the style
+     * classes of its probe controls and the style sheets they were styled by
+     */
+    private static final class StyleKey {
+        private final int          hash;
+        private final Class<?>     kind;
+        private final List<String> styleClasses;
+        private final List<String> styleSheets;
+
+        private StyleKey(Class<?> kind, List<String> styleClasses,
+                         List<String> styleSheets) {
+            this.kind = kind;
+            this.styleClasses = styleClasses;
+            this.styleSheets = styleSheets;
+            hash = Objects.hash(kind, styleClasses, styleSheets);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StyleKey)) {
+                return false;
+            }
+            StyleKey other = (StyleKey) obj;
+            return kind.equals(other.kind)
+                   && styleClasses.equals(other.styleClasses)
+                   && styleSheets.equals(other.styleSheets);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The probe controls of a schema node, added to the scene graph the style
+     * is probed from
+     */
+    private interface Probe {
+        NodeStyle style();
+    }
+
+    private static class PrimitiveProbe implements Probe {
+        private final LayoutLabel   label;
+        private final PrimitiveList list;
+        private final Label         primitiveText;
+
+        private PrimitiveProbe(Primitive p, VBox root) {
+            list = new PrimitiveList(p.getField());
+            label = new LayoutLabel("Lorem Ipsum");
+            primitiveText = new Label("Lorem Ipsum");
+            primitiveText.getStyleClass()
+                         .clear();
+            primitiveText.getStyleClass()
+                         .addAll(PrimitiveLayoutCell.DEFAULT_STYLE,
+                                 PrimitiveTextStyle.PRIMITIVE_TEXT_CLASS,
+                                 p.getField());
+
+            root.getChildren()
+                .addAll(list, label, primitiveText);
+        }
+
+        @Override
+        public PrimitiveStyle style() {
+            return new PrimitiveTextStyle(labelStyle(label), list.getInsets(),
+                                          labelStyle(primitiveText));
+        }
+    }
+
+    private static class RelationProbe implements Probe {
+        private final OutlineColumn  column;
+        private final OutlineElement element;
+        private final LayoutLabel    label;
+        private final Outline        outline;
+        private final OutlineCell    outlineCell;
+        private final NestedRow      row;
+        private final NestedCell     rowCell;
+        private final Span           span;
+        private final NestedTable    table;
+
+        private RelationProbe(Relation r, VBox root) {
+            table = new NestedTable(r.getField());
+            row = new NestedRow(r.getField());
+            rowCell = new NestedCell(r.getField());
+
+            outline = new Outline(r.getField());
+            outlineCell = new OutlineCell(r.getField());
+            column = new OutlineColumn(r.getField());
+            element = new OutlineElement(r.getField());
+            span = new Span(r.getField());
+
+            label = new LayoutLabel("Lorem Ipsum");
+
+            root.getChildren()
+                .addAll(table, row, rowCell, outline, outlineCell, column,
+                        element, span, label);
+        }
+
+        @Override
+        public RelationStyle style() {
+            return new RelationStyle(labelStyle(label), table, row, rowCell,
+                                     outline, outlineCell, column, span,
+                                     element);
+        }
+    }
 
     public interface LayoutObserver {
         default <T extends LayoutCell<?>> void apply(T cell, Primitive p) {
@@ -74,22 +191,16 @@ public class Style {
     }
 
     public static double relax(double value) {
-        return Math.max(0, Math.floor(value));
+        return LayoutModel.relax(value);
     }
 
     public static double snap(double value) {
-        return Math.ceil(value);
+        return LayoutModel.snap(value);
     }
 
     public static double textWidth(String string, Font textFont) {
-        Text text = new Text(string);
-        text.setFont(textFont);
-        Bounds tb = text.getBoundsInLocal();
-        return Shape.intersect(text,
-                               new Rectangle(tb.getMinX(), tb.getMinY(),
-                                             tb.getWidth(), tb.getHeight()))
-                    .getBoundsInLocal()
-                    .getWidth();
+        return FontMetrics.forFont(textFont)
+                          .width(string);
     }
 
     public static String toString(JsonNode value) {
@@ -115,9 +226,12 @@ public class Style {
         }
     }
 
-    private final LayoutObserver observer;
-
-    private final List<String>   styleSheets = new ArrayList<>();
+    private final Map<StyleKey, NodeStyle>                  cache        = new ConcurrentHashMap<>();
+    private ForkJoinPool                                    measurePool;
+    private final LayoutObserver                            observer;
+    private final Map<RelationLayout, CellPool<NestedCell>> rowCellPools = new IdentityHashMap<>();
+    private SamplingPolicy                                  samplingPolicy;
+    private final List<String>                              styleSheets  = new ArrayList<>();
 
     public Style() {
         this(new LayoutObserver() {
@@ -137,121 +251,183 @@ public class Style {
         observer.apply(list, relation);
     }
 
+    @Override
+    public ForkJoinPool getMeasurePool() {
+        return measurePool;
+    }
+
+    /**
+     * Answer the pool of the cells of the rows built from the layout, which
+     * all the rows of the layout share. The pool is held until it is
+     * {@link #releaseCellPools(SchemaNodeLayout) released}.
+     */
+    public CellPool<NestedCell> getRowCellPool(RelationLayout layout) {
+        return rowCellPools.computeIfAbsent(layout, l -> new CellPool<>());
+    }
+
+    @Override
+    public SamplingPolicy getSamplingPolicy() {
+        return samplingPolicy;
+    }
+
+    @Override
     public PrimitiveLayout layout(Primitive p) {
         return new PrimitiveLayout(p, style(p));
     }
 
+    @Override
     public RelationLayout layout(Relation r) {
         return new RelationLayout(r, style(r));
     }
 
-    public SchemaNodeLayout layout(SchemaNode n) {
-        return n instanceof Primitive ? layout((Primitive) n)
-                                      : layout((Relation) n);
+    /**
+     * Dispose the cells pooled for reuse by the controls built from the
+     * layout, and from its children, which no longer fit a plan of another
+     * structure
+     */
+    public void releaseCellPools(SchemaNodeLayout layout) {
+        if (!(layout instanceof RelationLayout)) {
+            return;
+        }
+        RelationLayout relation = (RelationLayout) layout;
+        CellPool<NestedCell> pool = rowCellPools.remove(relation);
+        if (pool != null) {
+            pool.dispose();
+        }
+        relation.forEach(child -> releaseCellPools(child));
+    }
+
+    /**
+     * Measure the children of each relation in parallel using the pool. Style
+     * probing requires the FX thread, so the styles of the measured schema are
+     * resolved before any work is forked.
+     */
+    public void setMeasurePool(ForkJoinPool measurePool) {
+        this.measurePool = measurePool;
     }
 
+    public void setSamplingPolicy(SamplingPolicy samplingPolicy) {
+        this.samplingPolicy = samplingPolicy;
+    }
+
+    /**
+     * Set the style sheets used to probe styles. Probed styles are cached, and
+     * the cache is invalidated only if the style sheets actually change.
+     */
     public void setStyleSheets(List<String> stylesheets) {
-        this.styleSheets.clear();
-        this.styleSheets.addAll(stylesheets);
+        synchronized (styleSheets) {
+            if (styleSheets.equals(stylesheets)) {
+                return;
+            }
+            this.styleSheets.clear();
+            this.styleSheets.addAll(stylesheets);
+            cache.clear();
+        }
     }
 
     public PrimitiveStyle style(Primitive p) {
-        VBox root = new VBox();
-
-        PrimitiveList list = new PrimitiveList(p.getField());
+        return (PrimitiveStyle) cache.computeIfAbsent(key(p),
+                                                      k -> probe(p));
+    }
 
-        LayoutLabel label = new LayoutLabel("Lorem Ipsum");
+    public RelationStyle style(Relation r) {
+        return (RelationStyle) cache.computeIfAbsent(key(r), k -> probe(r));
+    }
 
-        Label primitiveText = new Label("Lorem Ipsum");
-        primitiveText.getStyleClass()
-                     .clear();
-        primitiveText.getStyleClass()
-                     .addAll(PrimitiveLayoutCell.DEFAULT_STYLE,
-                             PrimitiveTextStyle.PRIMITIVE_TEXT_CLASS,
-                             p.getField());
+    /**
+     * Answer the styles of every node of the schema. The probe controls of all
+     * the nodes without a cached style are added to a single scene graph, and
+     * CSS is applied to them in one pass.
+     */
+    public Map<SchemaNode, NodeStyle> styles(Relation schema) {
+        VBox root = new VBox();
+        Map<StyleKey, Probe> probes = new LinkedHashMap<>();
+        Map<SchemaNode, StyleKey> keys = new LinkedHashMap<>();
+        probe(schema, root, probes, keys);
+        if (!probes.isEmpty()) {
+            applyCss(root);
+            probes.forEach((key, probe) -> cache.put(key, probe.style()));
+        }
+        Map<SchemaNode, NodeStyle> styles = new LinkedHashMap<>();
+        keys.forEach((node, key) -> styles.put(node, cache.get(key)));
+        return styles;
+    }
 
-        root.getChildren()
-            .addAll(list, label, primitiveText);
+    public List<String> styleSheets() {
+        return styleSheets;
+    }
 
-        Scene scene = new Scene(root, 800, 600);
-        scene.getStylesheets()
-             .addAll(styleSheets);
+    /**
+     * Probe the styles of every node of the schema on the calling thread, then
+     * evaluate the action. Styles are then answered from the cache, so that
+     * layouts of the schema may be created from any thread.
+     */
+    @Override
+    public <T> T withResolvedStyles(SchemaNode schema, Supplier<T> action) {
+        if (schema instanceof Relation) {
+            styles((Relation) schema);
+        } else {
+            style((Primitive) schema);
+        }
+        return action.get();
+    }
 
-        root.applyCss();
-        root.layout();
+    private StyleKey key(Class<?> kind, String... styleClasses) {
+        synchronized (styleSheets) {
+            return new StyleKey(kind, Arrays.asList(styleClasses),
+                                new ArrayList<>(styleSheets));
+        }
+    }
 
-        list.applyCss();
-        list.layout();
+    private StyleKey key(Primitive p) {
+        return key(Primitive.class, PrimitiveLayoutCell.DEFAULT_STYLE,
+                   PrimitiveTextStyle.PRIMITIVE_TEXT_CLASS, p.getField());
+    }
 
-        label.applyCss();
-        label.layout();
+    private StyleKey key(Relation r) {
+        return key(Relation.class, r.getField());
+    }
 
-        primitiveText.applyCss();
-        primitiveText.layout();
+    private StyleKey key(SchemaNode node) {
+        return node instanceof Primitive ? key((Primitive) node)
+                                         : key((Relation) node);
+    }
 
-        return new PrimitiveTextStyle(labelStyle(label), list.getInsets(),
-                                      labelStyle(primitiveText));
+    private Probe probe(SchemaNode node, VBox root) {
+        return node instanceof Primitive ? new PrimitiveProbe((Primitive) node,
+                                                              root)
+                                         : new RelationProbe((Relation) node,
+                                                             root);
     }
 
-    public RelationStyle style(Relation r) {
+    private void probe(SchemaNode node, VBox root,
+                       Map<StyleKey, Probe> probes,
+                       Map<SchemaNode, StyleKey> keys) {
+        StyleKey key = key(node);
+        keys.put(node, key);
+        if (!cache.containsKey(key) && !probes.containsKey(key)) {
+            probes.put(key, probe(node, root));
+        }
+        if (node instanceof Relation) {
+            ((Relation) node).getChildren()
+                             .forEach(child -> probe(child, root, probes,
+                                                     keys));
+        }
+    }
 
+    private NodeStyle probe(SchemaNode node) {
         VBox root = new VBox();
+        Probe probe = probe(node, root);
+        applyCss(root);
+        return probe.style();
+    }
 
-        NestedTable table = new NestedTable(r.getField());
-        NestedRow row = new NestedRow(r.getField());
-        NestedCell rowCell = new NestedCell(r.getField());
-
-        Outline outline = new Outline(r.getField());
-        OutlineCell outlineCell = new OutlineCell(r.getField());
-        OutlineColumn column = new OutlineColumn(r.getField());
-        OutlineElement element = new OutlineElement(r.getField());
-        Span span = new Span(r.getField());
-
-        LayoutLabel label = new LayoutLabel("Lorem Ipsum");
-
-        root.getChildren()
-            .addAll(table, row, rowCell, outline, outlineCell, column, element,
-                    span, label);
+    private void applyCss(VBox root) {
         Scene scene = new Scene(root, 800, 600);
         scene.getStylesheets()
              .addAll(styleSheets);
 
         root.applyCss();
         root.layout();
-
-        table.applyCss();
-        table.layout();
-
-        row.applyCss();
-        row.layout();
-
-        rowCell.applyCss();
-        rowCell.layout();
-
-        outline.applyCss();
-        outline.layout();
-
-        outlineCell.applyCss();
-        outlineCell.layout();
-
-        column.applyCss();
-        column.layout();
-
-        element.applyCss();
-        element.layout();
-
-        span.applyCss();
-        span.layout();
-
-        label.applyCss();
-        label.layout();
-
-        return new RelationStyle(labelStyle(label), table, row, rowCell,
-                                 outline, outlineCell, column, span, element);
-
-    }
-
-    public List<String> styleSheets() {
-        return styleSheets;
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ package com.chiralbehaviors.layout.table;
 import java.util.List;
 import java.util.function.Function;
 
+import com.chiralbehaviors.layout.LayoutControls;
 import com.chiralbehaviors.layout.PrimitiveLayout;
 import com.chiralbehaviors.layout.RelationLayout;
 import com.chiralbehaviors.layout.style.Style;
@@ -39,7 +40,7 @@ public class ColumnHeader extends VBox {
 
     public ColumnHeader(double width, double height, PrimitiveLayout layout) {
         this();
-        getChildren().add(layout.label(width, height));
+        getChildren().add(LayoutControls.label(layout, width, height));
     }
 
     public ColumnHeader(double width, double height, RelationLayout layout,
@@ -51,7 +52,8 @@ public class ColumnHeader extends VBox {
         setAlignment(Pos.CENTER);
         HBox nested = new HBox();
         double half = Style.snap(height / 2.0);
-        getChildren().addAll(layout.label(width, half), nested);
+        getChildren().addAll(LayoutControls.label(layout, width, half),
+                             nested);
 
         nestedHeaders.forEach(n -> {
             nested.getChildren()
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.table;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.chiralbehaviors.layout.LayoutControls;
+import com.chiralbehaviors.layout.PrimitiveLayout;
+import com.chiralbehaviors.layout.RelationLayout;
+import com.chiralbehaviors.layout.cell.Hit;
+import com.chiralbehaviors.layout.cell.HorizontalCell;
+import com.chiralbehaviors.layout.cell.LayoutCell;
+import com.chiralbehaviors.layout.cell.LayoutContainer;
+import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.cell.control.FocusTraversalNode.Bias;
+import com.chiralbehaviors.layout.cell.control.FocusTraversalNode;
+import com.chiralbehaviors.layout.cell.control.MouseHandler;
+import com.chiralbehaviors.layout.cell.control.MultipleCellSelection;
+import com.chiralbehaviors.layout.style.Style;
+import com.chiralbehaviors.layout.table.FlatRows.Entry;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javafx.geometry.Insets;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+
+/**
+ * A row of {@link FlatRows}, rendering the primitive columns of the row of a
+ * relation at any depth of the flattened table, or the header of those
+ * columns. The columns of each relation are built once per row cell, and kept
+ * for the cell's later rows of that relation.
+ *
+ * @author halhildebrand
+ *
+ */
+public class FlatRow extends HorizontalCell<FlatRow> implements
+        LayoutContainer<JsonNode, FlatRow, LayoutCell<? extends Region>> {
+
+    /**
+     * The columns of the rows of a relation
+     */
+    private static class Columns {
+        private final List<LayoutCell<? extends Region>> cells      = new ArrayList<>();
+        private final List<Consumer<JsonNode>>           consumers  = new ArrayList<>();
+        private final List<Runnable>                     justifiers = new ArrayList<>();
+        private final HBox                               node       = new HBox();
+    }
+
+    private static final String                                                 FLAT_ROW_CLASS = "flat-row";
+    private static final String                                                 STYLE_SHEET    = "flat-row.css";
+
+    private List<LayoutCell<? extends Region>>                                  cells          = Collections.emptyList();
+    private final Map<RelationLayout, Columns>                                  columns        = new HashMap<>();
+    private Entry                                                               entry;
+    private final FocusTraversalNode<LayoutCell<? extends Region>>              focus;
+    private int                                                                 index;
+    private final Style                                                         model;
+    private final MouseHandler                                                  mouseModel;
+    private final MultipleCellSelection<JsonNode, LayoutCell<? extends Region>> selectionModel;
+
+    public FlatRow(FocusTraversal<FlatRow> parentTraversal, Style model) {
+        super(STYLE_SHEET);
+        this.model = model;
+        this.initialize(FLAT_ROW_CLASS);
+        selectionModel = buildSelectionModel(i -> null, () -> cells.size(),
+                                             i -> cells.get(i));
+        focus = new FocusTraversalNode<LayoutCell<? extends Region>>(parentTraversal,
+                                                                     selectionModel,
+                                                                     Bias.HORIZONTAL) {
+
+            @Override
+            protected FlatRow getContainer() {
+                return FlatRow.this;
+            }
+        };
+        mouseModel = bind(selectionModel);
+    }
+
+    @Override
+    public void activate() {
+        focus.setCurrent();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        mouseModel.unbind();
+        focus.unbind();
+    }
+
+    @Override
+    public Collection<LayoutCell<? extends Region>> getContained() {
+        return cells;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public Hit<LayoutCell<? extends Region>> hit(double x, double y) {
+        return hit(x, y, cells);
+    }
+
+    /**
+     * Re-justify the columns of every relation to the current plan of its
+     * layout, and rebuild the header of the current row
+     */
+    @Override
+    public void rejustify() {
+        columns.values()
+               .forEach(c -> c.justifiers.forEach(j -> j.run()));
+        if (entry != null && entry.isHeader()) {
+            getChildren().setAll(FlatRows.header(entry.layout));
+        }
+    }
+
+    @Override
+    public void updateIndex(int index) {
+        boolean active = ((index % 2) == 0);
+        pseudoClassStateChanged(PSEUDO_CLASS_EVEN, active);
+        pseudoClassStateChanged(PSEUDO_CLASS_ODD, !active);
+        this.index = index;
+    }
+
+    @Override
+    public void updateItem(JsonNode item) {
+        entry = item == null ? null : FlatRows.entryOf(item);
+        if (entry == null) {
+            cells = Collections.emptyList();
+            getChildren().clear();
+        } else if (entry.isHeader()) {
+            cells = Collections.emptyList();
+            getChildren().setAll(FlatRows.header(entry.layout));
+        } else {
+            Columns row = columns.computeIfAbsent(entry.layout,
+                                                  l -> columns(l));
+            cells = row.cells;
+            if (getChildren().size() != 1 || getChildren().get(0) != row.node) {
+                getChildren().setAll(row.node);
+            }
+            row.consumers.forEach(c -> c.accept(entry.datum));
+        }
+        setPadding(new Insets(0, 0, 0,
+                              entry == null ? 0 : entry.depth * FlatRows.INDENT));
+        getNode().pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
+        getNode().pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
+    }
+
+    private Columns columns(RelationLayout layout) {
+        Columns row = new Columns();
+        layout.forEach(child -> {
+            if (!(child instanceof PrimitiveLayout)) {
+                return;
+            }
+            LayoutCell<? extends Region> cell = LayoutControls.buildColumn(child,
+                                                                           layout.baseRowCellHeight(layout.flatRowHeight()),
+                                                                           focus,
+                                                                           model);
+            row.cells.add(cell);
+            row.consumers.add(item -> cell.updateItem(child.extractFrom(item)));
+            row.justifiers.add(() -> LayoutControls.rejustifyColumn(child,
+                                                                    cell,
+                                                                    layout.baseRowCellHeight(layout.flatRowHeight())));
+            row.node.getChildren()
+                    .add(cell.getNode());
+        });
+        return row;
+    }
+}
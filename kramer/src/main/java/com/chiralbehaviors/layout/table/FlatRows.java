@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.chiralbehaviors.layout.PrimitiveLayout;
+import com.chiralbehaviors.layout.RelationLayout;
+import com.chiralbehaviors.layout.SchemaNodeLayout;
+import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.flowless.ItemList;
+import com.chiralbehaviors.layout.flowless.VirtualFlow;
+import com.chiralbehaviors.layout.schema.SchemaNode;
+import com.chiralbehaviors.layout.style.Style;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+/**
+ * The rows of a table and of its nested tables, flattened into a single
+ * virtual flow. Each row of a relation is followed by the rows of its nested
+ * relations, indented by their depth, and the rows of each nested relation are
+ * preceded by the header of its primitive columns.
+ *
+ * @author halhildebrand
+ *
+ */
+public class FlatRows extends VirtualFlow<FlatRow> {
+
+    /**
+     * A row of the flattened rows: the header of the rows of a nested relation
+     * if the datum is null, or a row of the data of a relation
+     */
+    public static final class Entry {
+        public final JsonNode       datum;
+        public final int            depth;
+        public final RelationLayout layout;
+
+        public Entry(RelationLayout layout, int depth, JsonNode datum) {
+            this.layout = layout;
+            this.depth = depth;
+            this.datum = datum;
+        }
+
+        public double height() {
+            return isHeader() ? layout.flatHeaderHeight()
+                              : layout.flatRowHeight();
+        }
+
+        public boolean isHeader() {
+            return datum == null;
+        }
+    }
+
+    public static final double  INDENT                = 16.0;
+
+    private static final String DEFAULT_STYLE         = "flat-rows";
+    private static final String SCHEMA_CLASS_TEMPLATE = "%s-flat-rows";
+    private static final String STYLE_SHEET           = "flat-rows.css";
+
+    /**
+     * Answer the entry of the item of the flattened rows
+     */
+    public static Entry entryOf(JsonNode item) {
+        return (Entry) ((POJONode) item).getPojo();
+    }
+
+    /**
+     * Answer the items of the rows of the data of the layout, with the rows of
+     * their nested relations flattened after each
+     */
+    public static List<JsonNode> flatten(RelationLayout layout, JsonNode data) {
+        List<JsonNode> items = new ArrayList<>();
+        flatten(layout, 0, data, items);
+        return items;
+    }
+
+    /**
+     * Answer the header of the primitive columns of the layout
+     */
+    public static TableHeader header(RelationLayout layout) {
+        List<SchemaNodeLayout> primitives = new ArrayList<>();
+        layout.forEach(child -> {
+            if (child instanceof PrimitiveLayout) {
+                primitives.add(child);
+            }
+        });
+        return new TableHeader(layout.getJustifiedTableColumnWidth(),
+                               layout.flatHeaderHeight(), primitives);
+    }
+
+    private static void flatten(RelationLayout layout, int depth, JsonNode data,
+                                List<JsonNode> items) {
+        for (JsonNode row : SchemaNode.asList(data)) {
+            items.add(new POJONode(new Entry(layout, depth, row)));
+            layout.forEach(child -> {
+                if (child instanceof RelationLayout) {
+                    RelationLayout nested = (RelationLayout) child;
+                    JsonNode rows = nested.extractFrom(row);
+                    if (rows != null && rows.size() > 0) {
+                        items.add(new POJONode(new Entry(nested, depth + 1,
+                                                         null)));
+                        flatten(nested, depth + 1, rows, items);
+                    }
+                }
+            });
+        }
+    }
+
+    private final RelationLayout layout;
+
+    public FlatRows(double rendered, RelationLayout layout,
+                    FocusTraversal<?> parentTraversal, Style model) {
+        super(STYLE_SHEET, layout.getJustifiedTableColumnWidth(),
+              layout.flatRowHeight(), new ItemList(),
+              (item, pt) -> {
+                  FlatRow row = new FlatRow(pt, model);
+                  row.updateItem(item);
+                  return row;
+              }, parentTraversal,
+              Arrays.asList(DEFAULT_STYLE, String.format(SCHEMA_CLASS_TEMPLATE,
+                                                         layout.getField())));
+        this.layout = layout;
+        size(rendered);
+        model.apply(this, layout.getNode());
+    }
+
+    /**
+     * Append the flattened rows of the rows, setting only their lengths
+     */
+    @Override
+    public boolean appendItems(List<JsonNode> rows) {
+        int from = items.size();
+        items.addAll(flatten(layout, JsonNodeFactory.instance.arrayNode()
+                                                             .addAll(rows)));
+        lengths(from);
+        return true;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        mouseHandler.unbind();
+        if (scrollHandler != null) {
+            scrollHandler.unbind();
+        }
+        focus.unbind();
+    }
+
+    /**
+     * Re-justify the rows to the current plan of the layout, rendered at the
+     * height
+     */
+    public void rejustify(double rendered) {
+        resizeCells(layout.getJustifiedTableColumnWidth(),
+                    layout.flatRowHeight());
+        lengths(0);
+        size(rendered);
+    }
+
+    @Override
+    public void updateItem(JsonNode item) {
+        items.setAll(flatten(layout, item));
+        lengths(0);
+        getNode().pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
+        getNode().pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
+    }
+
+    /**
+     * Set the lengths of the rows from the index, which differ for the headers
+     * and the rows of the nested relations, in one update of the flow
+     */
+    private void lengths(int from) {
+        double[] lengths = new double[items.size() - from];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = entryOf(items.get(from + i)).height();
+        }
+        setItemLengths(from, lengths);
+    }
+
+    private void size(double rendered) {
+        setMinHeight(rendered);
+        setPrefHeight(rendered);
+        setMaxHeight(rendered);
+    }
+}
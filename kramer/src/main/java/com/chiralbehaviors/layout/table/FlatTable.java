@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.table;
+
+import java.util.List;
+
+import com.chiralbehaviors.layout.RelationLayout;
+import com.chiralbehaviors.layout.cell.VerticalCell;
+import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.style.RelationStyle;
+import com.chiralbehaviors.layout.style.Style;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A table whose nested tables are flattened into its own rows, so that a
+ * single virtual flow manages every row of the hierarchy, rather than a flow
+ * per nested table of every row.
+ *
+ * @author halhildebrand
+ *
+ */
+public class FlatTable extends VerticalCell<FlatTable> {
+    private static final String  DEFAULT_STYLE         = "flat-table";
+    private static final String  SCHEMA_CLASS_TEMPLATE = "%s-flat-table";
+    private static final String  STYLE_SHEET           = "flat-table.css";
+
+    private final RelationLayout layout;
+    private final FlatRows       rows;
+    private final RelationStyle  style;
+
+    public FlatTable(RelationLayout layout, FocusTraversal<?> parentTraversal,
+                     Style model, RelationStyle style) {
+        super(STYLE_SHEET);
+        initialize(DEFAULT_STYLE);
+        getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE,
+                                          layout.getField()));
+        this.layout = layout;
+        this.style = style;
+        double height = height();
+
+        rows = new FlatRows(Style.snap(height - layout.flatHeaderHeight()),
+                            layout, parentTraversal, model);
+
+        getChildren().addAll(FlatRows.header(layout), rows);
+        size(height);
+    }
+
+    @Override
+    public void activate() {
+        rows.activate();
+    }
+
+    @Override
+    public boolean appendItems(List<JsonNode> items) {
+        return rows.appendItems(items);
+    }
+
+    @Override
+    public void dispose() {
+        rows.dispose();
+    }
+
+    /**
+     * Rebuild the header, and re-justify the rows, to the current plan of the
+     * layout
+     */
+    @Override
+    public void rejustify() {
+        double height = height();
+        getChildren().set(0, FlatRows.header(layout));
+        rows.rejustify(Style.snap(height - layout.flatHeaderHeight()));
+        size(height);
+    }
+
+    @Override
+    public void setFocus() {
+        rows.setFocus();
+    }
+
+    @Override
+    public void updateItem(JsonNode item) {
+        rows.updateItem(item);
+        getNode().pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
+        getNode().pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
+    }
+
+    private double height() {
+        return Style.snap(layout.getHeight() + style.getTableVerticalInset()
+                          + style.getRowVerticalInset());
+    }
+
+    private void size(double height) {
+        double width = Style.snap(layout.getJustifiedTableColumnWidth()
+                                  + style.getTableHorizontalInset());
+        setMinSize(width, height);
+        setPrefSize(width, height);
+        setMaxSize(width, height);
+    }
+}
@@ -21,14 +21,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
+import com.chiralbehaviors.layout.LayoutControls;
 import com.chiralbehaviors.layout.RelationLayout;
 import com.chiralbehaviors.layout.cell.Hit;
 import com.chiralbehaviors.layout.cell.HorizontalCell;
 import com.chiralbehaviors.layout.cell.LayoutCell;
 import com.chiralbehaviors.layout.cell.LayoutContainer;
 import com.chiralbehaviors.layout.cell.control.FocusTraversal;
-import com.chiralbehaviors.layout.cell.control.FocusTraversalNode;
 import com.chiralbehaviors.layout.cell.control.FocusTraversalNode.Bias;
+import com.chiralbehaviors.layout.cell.control.FocusTraversalNode;
 import com.chiralbehaviors.layout.cell.control.MouseHandler;
 import com.chiralbehaviors.layout.cell.control.MultipleCellSelection;
 import com.chiralbehaviors.layout.style.Style;
@@ -48,8 +49,9 @@ public class NestedCell extends HorizontalCell<NestedCell> implements
 
     private List<LayoutCell<? extends Region>>                                  cells                 = new ArrayList<>();
     private final List<Consumer<JsonNode>>                                      consumers             = new ArrayList<>();
-    private final FocusTraversal<?>                                             focus;
+    private final FocusTraversalNode<LayoutCell<? extends Region>>              focus;
     private int                                                                 index;
+    private final List<Runnable>                                                justifiers            = new ArrayList<>();
     private final MouseHandler                                                  mouseModel;
     private final MultipleCellSelection<JsonNode, LayoutCell<? extends Region>> selectionModel;
 
@@ -57,10 +59,14 @@ public class NestedCell extends HorizontalCell<NestedCell> implements
                       FocusTraversal<NestedCell> parentTraversal, Style model) {
         this(layout.getField(), parentTraversal);
         layout.forEach(child -> {
-            LayoutCell<? extends Region> cell = child.buildColumn(layout.baseRowCellHeight(layout.getCellHeight()),
-                                                                  focus, model);
+            LayoutCell<? extends Region> cell = LayoutControls.buildColumn(child,
+                                                                           layout.baseRowCellHeight(layout.getCellHeight()),
+                                                                           focus,
+                                                                           model);
             cells.add(cell);
             consumers.add(item -> cell.updateItem(child.extractFrom(item)));
+            justifiers.add(() -> LayoutControls.rejustifyColumn(child, cell,
+                                                                layout.baseRowCellHeight(layout.getCellHeight())));
             getChildren().add(cell.getNode());
         });
     }
@@ -115,6 +121,19 @@ public class NestedCell extends HorizontalCell<NestedCell> implements
         return hit(x, y, cells);
     }
 
+    @Override
+    public void rejustify() {
+        justifiers.forEach(j -> j.run());
+    }
+
+    /**
+     * Move this cell under the parent traversal, as when the cell is reused by
+     * another row
+     */
+    public void setParentTraversal(FocusTraversal<NestedCell> parentTraversal) {
+        focus.setParent(parentTraversal);
+    }
+
     @Override
     public void updateIndex(int index) {
         boolean active = ((index % 2) == 0);
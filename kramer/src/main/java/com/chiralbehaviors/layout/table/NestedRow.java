@@ -20,22 +20,22 @@ import java.util.Arrays;
 
 import com.chiralbehaviors.layout.RelationLayout;
 import com.chiralbehaviors.layout.cell.control.FocusTraversal;
+import com.chiralbehaviors.layout.flowless.ItemList;
 import com.chiralbehaviors.layout.flowless.VirtualFlow;
 import com.chiralbehaviors.layout.style.RelationStyle;
 import com.chiralbehaviors.layout.style.Style;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import javafx.collections.FXCollections;
-
 /**
  * @author halhildebrand
  *
  */
 public class NestedRow extends VirtualFlow<NestedCell> {
-    private static final String DEFAULT_STYLE         = "nested-row";
-    private static final String SCHEMA_CLASS_TEMPLATE = "%s-nested-row";
-    private static final String STYLE_SHEET           = "nested-row.css";
-    private int                 index;
+    private static final String  DEFAULT_STYLE         = "nested-row";
+    private static final String  SCHEMA_CLASS_TEMPLATE = "%s-nested-row";
+    private static final String  STYLE_SHEET           = "nested-row.css";
+    private int                  index;
+    private final RelationLayout layout;
 
     public NestedRow(double rendered, RelationLayout layout,
                      int childCardinality, FocusTraversal<?> parentTraversal,
@@ -48,16 +48,15 @@ public class NestedRow extends VirtualFlow<NestedCell> {
                      int childCardinality, FocusTraversal<?> parentTraversal,
                      Style model, RelationStyle style) {
         super(STYLE_SHEET, layout.getJustifiedTableColumnWidth(), rowHeight,
-              FXCollections.observableArrayList(), (item, pt) -> {
+              new ItemList(), (item, pt) -> {
                   NestedCell cell = new NestedCell(layout, pt, model);
                   cell.updateItem(item);
                   return cell;
-              }, parentTraversal,
+              }, model.getRowCellPool(layout), parentTraversal,
               Arrays.asList(DEFAULT_STYLE, String.format(SCHEMA_CLASS_TEMPLATE,
                                                          layout.getField())));
-        setMinHeight(rendered);
-        setPrefHeight(rendered);
-        setMaxHeight(rendered);
+        this.layout = layout;
+        size(rendered);
         model.apply(this, layout.getNode());
     }
 
@@ -65,6 +64,17 @@ public class NestedRow extends VirtualFlow<NestedCell> {
         super(STYLE_SHEET);
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE, field));
+        this.layout = null;
+    }
+
+    /**
+     * Rows of the same layout share their pool of cells, so the cell may have
+     * been built by another row, for a plan of the same structure
+     */
+    @Override
+    protected void adopt(NestedCell cell) {
+        cell.setParentTraversal(focus);
+        cell.rejustify();
     }
 
     @Override
@@ -79,7 +89,7 @@ public class NestedRow extends VirtualFlow<NestedCell> {
 
     @Override
     public void updateItem(JsonNode item) {
-        items.setAll(NestedTable.itemsAsArray(item));
+        updateItems(NestedTable.itemsAsArray(item), layout.rowIdentity());
         getNode().pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
         getNode().pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
     }
@@ -89,8 +99,24 @@ public class NestedRow extends VirtualFlow<NestedCell> {
         return index;
     }
 
+    /**
+     * Re-justify the rows to the current plan of the layout, rendered at the
+     * height
+     */
+    public void rejustify(double rendered) {
+        resizeCells(layout.getJustifiedTableColumnWidth(),
+                    layout.getCellHeight());
+        size(rendered);
+    }
+
     @Override
     public void updateIndex(int index) {
         this.index = index;
     }
+
+    private void size(double rendered) {
+        setMinHeight(rendered);
+        setPrefHeight(rendered);
+        setMaxHeight(rendered);
+    }
 }
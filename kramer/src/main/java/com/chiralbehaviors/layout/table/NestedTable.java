@@ -19,10 +19,10 @@ package com.chiralbehaviors.layout.table;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.chiralbehaviors.layout.LayoutControls;
 import com.chiralbehaviors.layout.RelationLayout;
 import com.chiralbehaviors.layout.cell.VerticalCell;
 import com.chiralbehaviors.layout.cell.control.FocusTraversal;
-import com.chiralbehaviors.layout.flowless.VirtualFlow;
 import com.chiralbehaviors.layout.schema.SchemaNode;
 import com.chiralbehaviors.layout.style.RelationStyle;
 import com.chiralbehaviors.layout.style.Style;
@@ -46,7 +46,9 @@ public class NestedTable extends VerticalCell<NestedTable> {
         return itemArray;
     }
 
-    private final VirtualFlow<NestedCell> rows;
+    private final RelationLayout layout;
+    private final NestedRow      rows;
+    private final RelationStyle  style;
 
     public NestedTable(int childCardinality, RelationLayout layout,
                        FocusTraversal<?> parentTraversal, Style model,
@@ -55,12 +57,10 @@ public class NestedTable extends VerticalCell<NestedTable> {
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE,
                                           layout.getField()));
-        Region header = layout.buildColumnHeader();
-        double width = Style.snap(layout.getJustifiedTableColumnWidth()
-                                  + style.getTableHorizontalInset());
-        double height = Style.snap(layout.getHeight()
-                                   + style.getTableVerticalInset()
-                                   + style.getRowVerticalInset());
+        this.layout = layout;
+        this.style = style;
+        Region header = LayoutControls.buildColumnHeader(layout);
+        double height = height();
 
         rows = new NestedRow(Style.snap(height - layout.columnHeaderHeight()),
                              layout, childCardinality, parentTraversal, model,
@@ -68,16 +68,16 @@ public class NestedTable extends VerticalCell<NestedTable> {
 
         getChildren().addAll(header, rows);
         model.apply(rows, layout.getNode());
-        setMinSize(width, height);
-        setPrefSize(width, height);
-        setMaxSize(width, height);
+        size(height);
     }
 
     public NestedTable(String field) {
         super(STYLE_SHEET);
         initialize(DEFAULT_STYLE);
         getStyleClass().add(String.format(SCHEMA_CLASS_TEMPLATE, field));
+        this.layout = null;
         this.rows = null;
+        this.style = null;
     }
 
     @Override
@@ -85,6 +85,23 @@ public class NestedTable extends VerticalCell<NestedTable> {
         rows.activate();
     }
 
+    @Override
+    public boolean appendItems(List<JsonNode> items) {
+        return rows.appendItems(items);
+    }
+
+    /**
+     * Rebuild the header, and re-justify the rows, to the current plan of the
+     * layout
+     */
+    @Override
+    public void rejustify() {
+        double height = height();
+        getChildren().set(0, LayoutControls.buildColumnHeader(layout));
+        rows.rejustify(Style.snap(height - layout.columnHeaderHeight()));
+        size(height);
+    }
+
     @Override
     public void setFocus() {
         rows.setFocus();
@@ -92,9 +109,21 @@ public class NestedTable extends VerticalCell<NestedTable> {
 
     @Override
     public void updateItem(JsonNode item) {
-        rows.getItems()
-            .setAll(SchemaNode.asList(item));
+        rows.updateItems(SchemaNode.asList(item), layout.rowIdentity());
         getNode().pseudoClassStateChanged(PSEUDO_CLASS_FILLED, item != null);
         getNode().pseudoClassStateChanged(PSEUDO_CLASS_EMPTY, item == null);
     }
+
+    private double height() {
+        return Style.snap(layout.getHeight() + style.getTableVerticalInset()
+                          + style.getRowVerticalInset());
+    }
+
+    private void size(double height) {
+        double width = Style.snap(layout.getJustifiedTableColumnWidth()
+                                  + style.getTableHorizontalInset());
+        setMinSize(width, height);
+        setPrefSize(width, height);
+        setMaxSize(width, height);
+    }
 }
@@ -18,6 +18,7 @@ package com.chiralbehaviors.layout.table;
 
 import java.util.List;
 
+import com.chiralbehaviors.layout.LayoutControls;
 import com.chiralbehaviors.layout.SchemaNodeLayout;
 
 import javafx.geometry.Pos;
@@ -37,7 +38,7 @@ public class TableHeader extends HBox {
                        List<SchemaNodeLayout> children) {
         this();
         setAlignment(Pos.CENTER);
-        children.forEach(c -> getChildren().add(c.columnHeader()
-                                                 .apply(height)));
+        children.forEach(c -> getChildren().add(LayoutControls.columnHeader(c)
+                                                              .apply(height)));
     }
 }
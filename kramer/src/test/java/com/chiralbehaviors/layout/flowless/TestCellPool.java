@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.flowless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.chiralbehaviors.layout.cell.LayoutCell;
+
+import javafx.scene.layout.Region;
+
+/**
+ * Pools cells that have no node, so the pool is tested without the JavaFX
+ * toolkit
+ *
+ * @author halhildebrand
+ *
+ */
+public class TestCellPool {
+
+    private static class StubCell implements LayoutCell<Region> {
+        private boolean       disposed;
+        private int           resets;
+        private final boolean reusable;
+
+        private StubCell() {
+            this(true);
+        }
+
+        private StubCell(boolean reusable) {
+            this.reusable = reusable;
+        }
+
+        @Override
+        public void dispose() {
+            assertFalse("disposed twice", disposed);
+            disposed = true;
+        }
+
+        @Override
+        public Region getNode() {
+            return null;
+        }
+
+        @Override
+        public boolean isReusable() {
+            return reusable;
+        }
+
+        @Override
+        public void reset() {
+            resets++;
+        }
+    }
+
+    @Test
+    public void testCapacityEviction() {
+        CellPool<StubCell> pool = new CellPool<>();
+        pool.setCapacity(2);
+        List<StubCell> cells = cells(3);
+        cells.forEach(cell -> pool.acceptCell(cell));
+
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getEvictions());
+        assertFalse(cells.get(0).disposed);
+        assertFalse(cells.get(1).disposed);
+        assertTrue(cells.get(2).disposed);
+        cells.forEach(cell -> assertEquals(1, cell.resets));
+
+        StubCell unreusable = new StubCell(false);
+        pool.setCapacity(4);
+        pool.acceptCell(unreusable);
+        assertTrue(unreusable.disposed);
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getEvictions());
+
+        pool.dispose();
+        assertEquals(0, pool.size());
+        assertTrue(cells.get(0).disposed);
+        assertTrue(cells.get(1).disposed);
+    }
+
+    @Test
+    public void testCounters() {
+        CellPool<StubCell> pool = new CellPool<>();
+        assertNull(pool.poll());
+        assertEquals(0, pool.getHits());
+        assertEquals(1, pool.getMisses());
+
+        StubCell cell = new StubCell();
+        pool.acceptCell(cell);
+        assertSame(cell, pool.poll());
+        assertNull(pool.poll());
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getMisses());
+        assertEquals(0, pool.getEvictions());
+
+        pool.setCapacity(0);
+        pool.acceptCell(cell);
+        assertEquals(1, pool.getEvictions());
+        assertTrue(cell.disposed);
+        assertEquals("CellPool [size=0, capacity=0, hits=1, misses=2, evictions=1]",
+                     pool.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new CellPool<StubCell>().setCapacity(-1);
+    }
+
+    @Test
+    public void testPrewarm() {
+        CellPool<StubCell> pool = new CellPool<>();
+        pool.setCapacity(3);
+        List<StubCell> created = new ArrayList<>();
+        pool.prewarm(5, () -> {
+            StubCell cell = new StubCell();
+            created.add(cell);
+            return cell;
+        });
+        assertEquals(3, pool.size());
+        assertEquals(3, created.size());
+        created.forEach(cell -> assertEquals(1, cell.resets));
+
+        // already warm
+        pool.prewarm(2, () -> new StubCell());
+        assertEquals(3, pool.size());
+
+        // prewarming neither hits nor misses
+        assertEquals(0, pool.getHits());
+        assertEquals(0, pool.getMisses());
+
+        CellPool<StubCell> unreusable = new CellPool<>();
+        StubCell cell = new StubCell(false);
+        unreusable.prewarm(5, () -> cell);
+        assertEquals(0, unreusable.size());
+        assertTrue(cell.disposed);
+    }
+
+    @Test
+    public void testShrinkCapacity() {
+        CellPool<StubCell> pool = new CellPool<>();
+        assertEquals(CellPool.DEFAULT_CAPACITY, pool.getCapacity());
+        List<StubCell> cells = cells(5);
+        cells.forEach(cell -> pool.acceptCell(cell));
+        assertEquals(5, pool.size());
+
+        pool.setCapacity(2);
+        assertEquals(2, pool.getCapacity());
+        assertEquals(2, pool.size());
+        assertEquals(3, pool.getEvictions());
+
+        // the most recently accepted cells are kept
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cells.get(i).disposed);
+        }
+        assertSame(cells.get(4), pool.poll());
+        assertSame(cells.get(3), pool.poll());
+        assertFalse(cells.get(3).disposed);
+        assertFalse(cells.get(4).disposed);
+    }
+
+    private List<StubCell> cells(int count) {
+        List<StubCell> cells = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cells.add(new StubCell());
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.flowless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.chiralbehaviors.layout.KeyedDiff;
+import com.chiralbehaviors.layout.cell.LayoutCell;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.layout.Region;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestKeyedCells {
+    private static class RowCell extends Region implements LayoutCell<RowCell> {
+        private JsonNode item;
+
+        @Override
+        public void updateItem(JsonNode item) {
+            this.item = item;
+        }
+    }
+
+    private static final Function<JsonNode, JsonNode> KEY = row -> row.get("id");
+
+    @Test
+    public void testChangedRowsReplaceOnlyTheirCells() {
+        ItemList items = new ItemList();
+        CellListManager<RowCell> manager = manager(items);
+        items.setAll(rows("a", "b", "c"));
+        List<RowCell> before = cells(manager, 3);
+
+        ObjectNode changed = row("b");
+        changed.put("name", "changed");
+        List<JsonNode> update = rows("a", "b", "c");
+        update.set(1, changed);
+        items.batch(() -> KeyedDiff.apply(items, update, KEY));
+
+        assertSame(before.get(0), manager.getPresentCell(0));
+        assertSame(before.get(2), manager.getPresentCell(2));
+        assertSame(changed, manager.getCell(1).item);
+    }
+
+    @Test
+    public void testSingleChange() {
+        ItemList items = new ItemList();
+        items.setAll(rows("a", "b", "c", "d", "e"));
+        List<ListChangeListener.Change<? extends JsonNode>> changes = new ArrayList<>();
+        items.addListener((ListChangeListener<JsonNode>) c -> changes.add(c));
+        items.batch(() -> KeyedDiff.apply(items, rows("e", "d", "c", "b", "a"),
+                                          KEY));
+        assertEquals(1, changes.size());
+        assertEquals(rows("e", "d", "c", "b", "a"), items);
+    }
+
+    @Test
+    public void testUnchangedRowsKeepCells() {
+        ItemList items = new ItemList();
+        CellListManager<RowCell> manager = manager(items);
+        items.setAll(rows("a", "b", "c", "d"));
+        List<RowCell> before = cells(manager, 4);
+
+        items.batch(() -> KeyedDiff.apply(items, rows("a", "x", "c", "d", "e"),
+                                          KEY));
+
+        assertSame(before.get(0), manager.getPresentCell(0));
+        assertSame(before.get(2), manager.getPresentCell(2));
+        assertSame(before.get(3), manager.getPresentCell(3));
+        assertEquals("x", manager.getCell(1).item.get("id")
+                                                 .asText());
+        assertNotSame(before.get(0), manager.getCell(4));
+    }
+
+    private List<RowCell> cells(CellListManager<RowCell> manager, int count) {
+        List<RowCell> cells = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cells.add(manager.getCell(i));
+        }
+        return cells;
+    }
+
+    private CellListManager<RowCell> manager(ItemList items) {
+        return new CellListManager<>(items, item -> {
+            RowCell cell = new RowCell();
+            cell.updateItem(item);
+            return cell;
+        }, null, cell -> {
+        });
+    }
+
+    private ObjectNode row(String id) {
+        ObjectNode row = JsonNodeFactory.instance.objectNode();
+        row.put("id", id);
+        row.put("name", "row " + id);
+        return row;
+    }
+
+    private List<JsonNode> rows(String... ids) {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String id : ids) {
+            rows.add(row(id));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.flowless;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * @author halhildebrand
+ *
+ */
+public class TestLengthIndex {
+
+    @Test
+    public void testCellLength() {
+        LengthIndex index = new LengthIndex(10);
+        index.replace(0, 0, 5);
+        index.setLength(1, 30);
+        index.setCellLength(20);
+        assertEquals(110, index.total(), 0.0);
+        assertEquals(50, index.offset(2), 0.0);
+        assertEquals(2, index.indexAt(50));
+    }
+
+    @Test
+    public void testReplace() {
+        LengthIndex index = new LengthIndex(10);
+        index.replace(0, 0, 4);
+        index.setLength(2, 40);
+        index.replace(0, 1, 3);
+        assertEquals(6, index.size());
+        assertEquals(40, index.length(4), 0.0);
+        assertEquals(40, index.offset(4), 0.0);
+        assertEquals(90, index.total(), 0.0);
+        index.replace(4, 1, 0);
+        assertEquals(50, index.total(), 0.0);
+        index.clear();
+        assertEquals(50, index.total(), 0.0);
+    }
+
+    @Test
+    public void testSetLengths() {
+        LengthIndex index = new LengthIndex(10);
+        index.replace(0, 0, 4);
+        index.setLengths(0, new double[] { 20, 10, 30, 10 });
+        assertEquals(70, index.total(), 0.0);
+        assertEquals(60, index.offset(3), 0.0);
+        assertEquals(2, index.indexAt(30));
+        assertEquals(30, index.length(2), 0.0);
+        index.replace(4, 0, 2);
+        index.setLengths(4, new double[] { 5, 15 });
+        assertEquals(90, index.total(), 0.0);
+        assertEquals(75, index.offset(5), 0.0);
+    }
+
+    @Test
+    public void testUniform() {
+        LengthIndex index = new LengthIndex(10);
+        index.replace(0, 0, 5);
+        assertEquals(50, index.total(), 0.0);
+        assertEquals(30, index.offset(3), 0.0);
+        assertEquals(0, index.indexAt(-5));
+        assertEquals(2, index.indexAt(29.5));
+        assertEquals(3, index.indexAt(30));
+        assertEquals(5, index.indexAt(75));
+    }
+
+    @Test
+    public void testVariable() {
+        LengthIndex index = new LengthIndex(10);
+        index.replace(0, 0, 7);
+        index.setLength(0, 25);
+        index.setLength(3, 5);
+        index.setLength(6, 100);
+        double offset = 0;
+        for (int i = 0; i < 7; i++) {
+            assertEquals(offset, index.offset(i), 0.0);
+            assertEquals(i, index.indexAt(offset));
+            assertEquals(i, index.indexAt(offset + index.length(i) - 0.5));
+            offset += index.length(i);
+        }
+        assertEquals(offset, index.total(), 0.0);
+        assertEquals(7, index.indexAt(offset));
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.style;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeNoException;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javafx.application.Platform;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * The widths of the cached glyph metrics are those of laying out the text.
+ * Requires the JavaFX toolkit, and is skipped where it cannot be started.
+ *
+ * @author halhildebrand
+ *
+ */
+public class TestFontMetrics {
+    private static final double TOLERANCE = 0.01;
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(() -> started.countDown());
+        } catch (IllegalStateException e) {
+            // already started, though perhaps not successfully
+            Thread probe = new Thread(() -> Platform.runLater(started::countDown));
+            probe.setDaemon(true);
+            probe.start();
+        } catch (Throwable e) {
+            assumeNoException(e);
+        }
+        assumeTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    private static String range(char from, char to) {
+        StringBuilder builder = new StringBuilder();
+        for (char c = from; c <= to; c++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void testAscii() {
+        assertLayoutWidths(range(' ', '~'), "Lorem Ipsum",
+                           "The quick brown fox jumps over the lazy dog",
+                           "AVATAR Wave To LT Ty Yo", "  padded  ", "i", "W");
+        for (char c = ' '; c <= '~'; c++) {
+            assertLayoutWidths(String.valueOf(c));
+        }
+    }
+
+    @Test
+    public void testLatin1() {
+        assertLayoutWidths(range('\u00a1', '\u00ff'),
+                           "\u00c7a \u00e9t\u00e9 \u00fcber fa\u00e7ade",
+                           "\u00f1and\u00fa \u00c6\u00d8\u00c5 \u00e6\u00f8\u00e5",
+                           "\u00abd\u00e9j\u00e0 vu\u00bb \u00df \u00ff");
+        for (char c = '\u00a1'; c <= '\u00ff'; c++) {
+            assertLayoutWidths(String.valueOf(c));
+        }
+    }
+
+    @Test
+    public void testMultiLine() {
+        assertLayoutWidths("first\nsecond line is longer",
+                           "a much longer first line\nshort",
+                           "\n indented after a blank line",
+                           "three\nlines\nof text", "trailing\n");
+    }
+
+    private void assertLayoutWidths(String... samples) {
+        for (Font font : new Font[] { Font.getDefault(),
+                                      Font.font("Serif", 17.5),
+                                      Font.font("Monospaced", FontWeight.BOLD,
+                                                11) }) {
+            FontMetrics metrics = FontMetrics.forFont(font);
+            for (String sample : samples) {
+                double expected = FontMetrics.layoutWidth(sample, font);
+                String message = String.format("%s: '%s'", font, sample);
+                assertEquals(message, expected, metrics.width(sample),
+                             TOLERANCE);
+                // and again, from the cache of widths
+                assertEquals(message, expected, metrics.width(sample),
+                             TOLERANCE);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2017 Chiral Behaviors, LLC, all rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chiralbehaviors.layout.table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeNoException;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.chiralbehaviors.layout.LayoutControls;
+import com.chiralbehaviors.layout.RelationLayout;
+import com.chiralbehaviors.layout.cell.control.FocusController;
+import com.chiralbehaviors.layout.schema.Primitive;
+import com.chiralbehaviors.layout.schema.Relation;
+import com.chiralbehaviors.layout.style.Style;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import javafx.application.Platform;
+import javafx.scene.layout.AnchorPane;
+
+/**
+ * The rows of a nested table keep the cells of the unchanged rows of a keyed
+ * relation across updates. Requires the JavaFX toolkit, and is skipped where
+ * it cannot be started.
+ *
+ * @author halhildebrand
+ *
+ */
+public class TestKeyedNestedTable {
+
+    @BeforeClass
+    public static void startToolkit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(() -> started.countDown());
+        } catch (IllegalStateException e) {
+            // already started, though perhaps not successfully
+            Thread probe = new Thread(() -> Platform.runLater(started::countDown));
+            probe.setDaemon(true);
+            probe.start();
+        } catch (Throwable e) {
+            assumeNoException(e);
+        }
+        assumeTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    private static <T> T onFx(Callable<T> action) throws Exception {
+        FutureTask<T> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        return task.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testUnchangedRowsKeepCells() throws Exception {
+        onFx(() -> {
+            Relation schema = new Relation("rows");
+            schema.addChild(new Primitive("name"));
+            schema.setKey("id");
+            Style model = new Style() {
+            };
+            ArrayNode data = rows("a", "b", "c", "d");
+            RelationLayout layout = (RelationLayout) model.withResolvedStyles(schema,
+                                                                              () -> model.layout(schema)
+                                                                                         .measure(data,
+                                                                                                  model));
+            layout.plan(800);
+            NestedTable table = LayoutControls.buildNestedTable(layout,
+                                                                new FocusController<>(new AnchorPane()),
+                                                                model)
+                                              .getNode();
+            NestedRow rows = (NestedRow) table.getChildren()
+                                              .get(1);
+            table.updateItem(data);
+            List<NestedCell> before = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                before.add(rows.getCell(i));
+            }
+
+            table.updateItem(rows("a", "x", "c", "d", "e"));
+
+            assertEquals(5, rows.getItems()
+                                .size());
+            assertSame(before.get(0), rows.getCell(0));
+            assertSame(before.get(2), rows.getCell(2));
+            assertSame(before.get(3), rows.getCell(3));
+            return null;
+        });
+    }
+
+    private ArrayNode rows(String... ids) {
+        ArrayNode rows = JsonNodeFactory.instance.arrayNode();
+        for (String id : ids) {
+            rows.addObject()
+                .put("id", id)
+                .put("name", "row " + id);
+        }
+        return rows;
+    }
+}
@@ -21,6 +21,7 @@ import static com.chiralbehaviors.layout.cell.control.SelectionEvent.DOUBLE_SELE
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Stack;
@@ -35,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.chiralbehaviors.layout.AutoLayout;
+import com.chiralbehaviors.layout.MeasurementStore;
 import com.chiralbehaviors.layout.cell.LayoutCell;
 import com.chiralbehaviors.layout.flowless.VirtualFlow;
 import com.chiralbehaviors.layout.graphql.GraphQlUtil.QueryException;
@@ -71,12 +73,15 @@ public class SinglePageApp extends Application implements LayoutObserver {
 
     private AnchorPane               anchor;
     private GraphqlApplication       application;
-    private final Stack<PageContext> back    = new Stack<>();
+    private final Stack<PageContext> back         = new Stack<>();
     private Button                   backButton;
     private WebTarget                endpoint;
-    private final Stack<PageContext> forward = new Stack<>();
+    private final Stack<PageContext> forward      = new Stack<>();
     private Button                   forwardButton;
     private AutoLayout               layout;
+    private final MeasurementStore   measurements = new MeasurementStore(Paths.get(System.getProperty("user.home"),
+                                                                                   ".kramer",
+                                                                                   "measurements"));
     private Stage                    primaryStage;
     private Button                   reloadButton;
 
@@ -191,9 +196,9 @@ public class SinglePageApp extends Application implements LayoutObserver {
     private AutoLayout layout(PageContext pageContext) throws QueryException {
         AutoLayout layout = new AutoLayout(pageContext.getRoot(),
                                            new Style(this));
+        layout.setMeasurementStore(measurements);
         JsonNode data = pageContext.evaluate(endpoint);
         layout.updateItem(data);
-        layout.measure(data);
         AnchorPane.setTopAnchor(layout, 0.0);
         AnchorPane.setLeftAnchor(layout, 0.0);
         AnchorPane.setBottomAnchor(layout, 0.0);